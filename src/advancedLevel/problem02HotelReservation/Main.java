@@ -3,12 +3,14 @@ package advancedLevel.problem02HotelReservation;
 import advancedLevel.problem02HotelReservation.builder.ReservationBuilder;
 import advancedLevel.problem02HotelReservation.factory.RoomFactory;
 import advancedLevel.problem02HotelReservation.manager.HotelManager;
+import advancedLevel.problem02HotelReservation.models.Amenity;
 import advancedLevel.problem02HotelReservation.models.Reservation;
 import advancedLevel.problem02HotelReservation.models.Room;
 import advancedLevel.problem02HotelReservation.models.RoomType;
 import advancedLevel.problem02HotelReservation.observer.EmailNotificationObserver;
 import advancedLevel.problem02HotelReservation.observer.LoggerObserver;
 import advancedLevel.problem02HotelReservation.observer.SMSNotificationObserver;
+import advancedLevel.problem02HotelReservation.pricing.RateCalendar;
 
 import java.time.LocalDate;
 
@@ -34,12 +36,25 @@ public class Main {
 
         manager.displayAllRooms();
 
+        System.out.println("\n--- ÖZELLİĞE GÖRE ODA ARA (Minibar + Balkon) ---");
+        manager.findRoomsWithAmenities(Amenity.MINIBAR, Amenity.BALKON).forEach(System.out::println);
+
+        System.out.println("\n--- FİYAT TAKVİMİ ---");
+        RateCalendar rateCalendar = new RateCalendar(LocalDate.now(), 365);
+        rateCalendar.applyWeekendSurcharge(RoomType.DELUXE, 20);
+        rateCalendar.addLengthOfStayDiscount(7, 10);
+        LocalDate quoteStart = LocalDate.now().plusDays(1);
+        System.out.println("DELUXE 3 gece: " + rateCalendar.quote(RoomType.DELUXE, quoteStart, quoteStart.plusDays(3)) + " TL");
+        System.out.println("DELUXE 7 gece: " + rateCalendar.quote(RoomType.DELUXE, quoteStart, quoteStart.plusDays(7)) + " TL");
+
+        LocalDate stayStart = LocalDate.now().plusDays(30);
+
         System.out.println("\n--- REZERVASYON 1 OLUŞTUR ---");
         Reservation res1 = new ReservationBuilder()
                 .setGuestName("Ahmet Yılmaz")
                 .setRoom(deluxe201)
-                .setCheckInDate(LocalDate.of(2025, 11, 10))
-                .setCheckOutDate(LocalDate.of(2025, 11, 15))
+                .setCheckInDate(stayStart)
+                .setCheckOutDate(stayStart.plusDays(5))
                 .build();
 
         manager.createReservation(res1);
@@ -48,8 +63,8 @@ public class Main {
         Reservation res2 = new ReservationBuilder()
                 .setGuestName("Ayşe Demir")
                 .setRoom(deluxe201)
-                .setCheckInDate(LocalDate.of(2025, 11, 20))
-                .setCheckOutDate(LocalDate.of(2025, 11, 25))
+                .setCheckInDate(stayStart.plusDays(10))
+                .setCheckOutDate(stayStart.plusDays(15))
                 .build();
 
         manager.createReservation(res2);
@@ -58,8 +73,8 @@ public class Main {
         Reservation res3 = new ReservationBuilder()
                 .setGuestName("Mehmet Kaya")
                 .setRoom(deluxe201)
-                .setCheckInDate(LocalDate.of(2025, 11, 12))
-                .setCheckOutDate(LocalDate.of(2025, 11, 17))
+                .setCheckInDate(stayStart.plusDays(2))
+                .setCheckOutDate(stayStart.plusDays(7))
                 .build();
 
         manager.createReservation(res3);
@@ -76,8 +91,9 @@ public class Main {
         System.out.println("\n--- res1'İ İPTAL ET ---");
         manager.cancelReservation(res1.getReservationId());
 
-        System.out.println("\n--- ARTIK res3 OLUŞTURULUR (çakışma yok) ---");
-        manager.createReservation(res3);
+        System.out.println("\n--- res3 BEKLEME LİSTESİNDEN OTOMATİK OLUŞTURULDU ---");
+        System.out.println("Bekleme listesi: " + manager.getWaitlistSize());
+        System.out.println("res3 aynı ID ile aktif: " + res3.getReservationId().substring(0, 8) + " - " + res3.getStatus());
 
         System.out.println("\n--- SON DURUM ---");
         manager.displayAllReservations();
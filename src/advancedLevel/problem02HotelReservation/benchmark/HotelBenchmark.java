@@ -0,0 +1,239 @@
+package advancedLevel.problem02HotelReservation.benchmark;
+
+import advancedLevel.problem02HotelReservation.builder.ReservationBuilder;
+import advancedLevel.problem02HotelReservation.factory.RoomFactory;
+import advancedLevel.problem02HotelReservation.manager.HotelManager;
+import advancedLevel.problem02HotelReservation.models.Amenity;
+import advancedLevel.problem02HotelReservation.models.Reservation;
+import advancedLevel.problem02HotelReservation.models.ReservationStatus;
+import advancedLevel.problem02HotelReservation.models.Room;
+import advancedLevel.problem02HotelReservation.models.RoomType;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+public class HotelBenchmark {
+    private static final int HORIZON_DAYS = 365;
+
+    private final int roomCount;
+    private final int reservationCount;
+    private final int threads;
+    private final int operations;
+    private final Random random = new Random(42);
+
+    private HotelManager manager;
+    private List<Room> rooms;
+
+    public HotelBenchmark(int roomCount, int reservationCount, int threads, int operations) {
+        this.roomCount = roomCount;
+        this.reservationCount = reservationCount;
+        this.threads = threads;
+        this.operations = operations;
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        int roomCount = args.length > 0 ? Integer.parseInt(args[0]) : 500;
+        int reservationCount = args.length > 1 ? Integer.parseInt(args[1]) : 10_000;
+        int threads = args.length > 2 ? Integer.parseInt(args[2]) : Math.max(4, Runtime.getRuntime().availableProcessors());
+        int operations = args.length > 3 ? Integer.parseInt(args[3]) : 20_000;
+
+        System.out.println("🏨 OTEL BENCHMARK - oda=" + roomCount + " rezervasyon=" + reservationCount
+                + " thread=" + threads + " işlem=" + operations);
+
+        HotelBenchmark benchmark = new HotelBenchmark(roomCount, reservationCount, threads, operations);
+        PrintStream console = System.out;
+        List<LatencyStats> results = new ArrayList<>();
+
+        int doubleBookings;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        try {
+            benchmark.setUp();
+            benchmark.warmUp();
+            results.add(benchmark.measureAvailability());
+            results.add(benchmark.measureConcurrentCreate());
+            doubleBookings = benchmark.countDoubleBookings();
+            results.add(benchmark.measureCancellation());
+            results.add(benchmark.measureAmenitySearch());
+        } finally {
+            System.setOut(console);
+        }
+
+        results.forEach(System.out::println);
+        System.out.println(doubleBookings == 0 ? "PASS - eşzamanlı rezervasyonda çift rezervasyon yok"
+                : "FAIL - " + doubleBookings + " çakışan rezervasyon");
+        if (doubleBookings > 0) {
+            System.exit(1);
+        }
+    }
+
+    public void setUp() {
+        manager = new HotelManager();
+        rooms = new ArrayList<>(roomCount);
+
+        RoomFactory factory = new RoomFactory();
+        RoomType[] types = RoomType.values();
+        for (int i = 0; i < roomCount; i++) {
+            Room room = factory.createRoom(types[i % types.length], String.valueOf(1000 + i));
+            manager.addRoom(room);
+            rooms.add(room);
+        }
+
+        for (int i = 0; i < reservationCount; i++) {
+            manager.createReservation(randomReservation("Misafir " + i));
+        }
+    }
+
+    private void warmUp() {
+        for (int i = 0; i < operations; i++) {
+            Room room = rooms.get(random.nextInt(rooms.size()));
+            LocalDate checkIn = randomCheckIn();
+            manager.isRoomAvailable(room, checkIn, checkIn.plusDays(2));
+            manager.findRoomsWithAmenities(Amenity.MINIBAR, Amenity.BALKON);
+        }
+    }
+
+    public LatencyStats measureAvailability() {
+        LatencyStats stats = new LatencyStats("isRoomAvailable", operations);
+        long start = System.nanoTime();
+        for (int i = 0; i < operations; i++) {
+            Room room = rooms.get(random.nextInt(rooms.size()));
+            LocalDate checkIn = randomCheckIn();
+            long t0 = System.nanoTime();
+            manager.isRoomAvailable(room, checkIn, checkIn.plusDays(1 + random.nextInt(7)));
+            stats.record(System.nanoTime() - t0);
+        }
+        stats.setWallNanos(System.nanoTime() - start);
+        return stats;
+    }
+
+    public LatencyStats measureConcurrentCreate() throws InterruptedException {
+        LatencyStats stats = new LatencyStats("createReservation x" + threads, operations);
+        int perThread = Math.max(1, operations / threads);
+
+        List<List<Reservation>> batches = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            List<Reservation> batch = new ArrayList<>(perThread);
+            for (int i = 0; i < perThread; i++) {
+                batch.add(randomReservation("Eşzamanlı " + t + "-" + i));
+            }
+            batches.add(batch);
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch startSignal = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        for (List<Reservation> batch : batches) {
+            executor.execute(() -> {
+                LatencyStats local = new LatencyStats("local", batch.size());
+                try {
+                    startSignal.await();
+                    for (Reservation reservation : batch) {
+                        long t0 = System.nanoTime();
+                        manager.createReservation(reservation);
+                        local.record(System.nanoTime() - t0);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    stats.merge(local);
+                    done.countDown();
+                }
+            });
+        }
+
+        long start = System.nanoTime();
+        startSignal.countDown();
+        done.await();
+        stats.setWallNanos(System.nanoTime() - start);
+
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+        return stats;
+    }
+
+    public int countDoubleBookings() {
+        Map<String, List<Reservation>> byRoom = new HashMap<>();
+        for (Reservation reservation : manager.getReservations()) {
+            if (reservation.getStatus() != ReservationStatus.CANCELLED) {
+                byRoom.computeIfAbsent(reservation.getRoom().getRoomNumber(), number -> new ArrayList<>()).add(reservation);
+            }
+        }
+
+        int overlaps = 0;
+        for (List<Reservation> roomReservations : byRoom.values()) {
+            roomReservations.sort(Comparator.comparing(Reservation::getCheckInDate));
+            LocalDate occupiedUntil = null;
+            for (Reservation reservation : roomReservations) {
+                if (occupiedUntil != null && reservation.getCheckInDate().isBefore(occupiedUntil)) {
+                    overlaps++;
+                }
+                if (occupiedUntil == null || reservation.getCheckOutDate().isAfter(occupiedUntil)) {
+                    occupiedUntil = reservation.getCheckOutDate();
+                }
+            }
+        }
+        return overlaps;
+    }
+
+    public LatencyStats measureCancellation() {
+        List<Reservation> sample = new ArrayList<>();
+        for (Reservation reservation : manager.getReservations()) {
+            if (reservation.getStatus() != ReservationStatus.CANCELLED) {
+                sample.add(reservation);
+            }
+        }
+        Collections.shuffle(sample, random);
+        int count = Math.min(operations, sample.size());
+        LatencyStats stats = new LatencyStats("cancelReservation", count);
+        long start = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            Reservation reservation = sample.get(i);
+            long t0 = System.nanoTime();
+            manager.cancelReservation(reservation.getReservationId());
+            stats.record(System.nanoTime() - t0);
+        }
+        stats.setWallNanos(System.nanoTime() - start);
+        return stats;
+    }
+
+    public LatencyStats measureAmenitySearch() {
+        LatencyStats stats = new LatencyStats("findRoomsWithAmenities", operations);
+        Amenity[] amenities = Amenity.values();
+        long start = System.nanoTime();
+        for (int i = 0; i < operations; i++) {
+            Amenity first = amenities[random.nextInt(amenities.length)];
+            Amenity second = amenities[random.nextInt(amenities.length)];
+            long t0 = System.nanoTime();
+            manager.findRoomsWithAmenities(first, second);
+            stats.record(System.nanoTime() - t0);
+        }
+        stats.setWallNanos(System.nanoTime() - start);
+        return stats;
+    }
+
+    private Reservation randomReservation(String guestName) {
+        LocalDate checkIn = randomCheckIn();
+        return new ReservationBuilder()
+                .setGuestName(guestName)
+                .setRoom(rooms.get(random.nextInt(rooms.size())))
+                .setCheckInDate(checkIn)
+                .setCheckOutDate(checkIn.plusDays(1 + random.nextInt(7)))
+                .build();
+    }
+
+    private LocalDate randomCheckIn() {
+        return LocalDate.now().plusDays(1 + random.nextInt(HORIZON_DAYS));
+    }
+}
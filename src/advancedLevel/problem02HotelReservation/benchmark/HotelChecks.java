@@ -0,0 +1,123 @@
+package advancedLevel.problem02HotelReservation.benchmark;
+
+import advancedLevel.problem02HotelReservation.factory.RoomFactory;
+import advancedLevel.problem02HotelReservation.manager.HotelManager;
+import advancedLevel.problem02HotelReservation.models.Reservation;
+import advancedLevel.problem02HotelReservation.models.ReservationStatus;
+import advancedLevel.problem02HotelReservation.models.Room;
+import advancedLevel.problem02HotelReservation.models.RoomType;
+import advancedLevel.problem02HotelReservation.observer.ReservationObserver;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+public class HotelChecks {
+    public static void main(String[] args) {
+        PrintStream console = System.out;
+        List<String> results = new ArrayList<>();
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        try {
+            results.add(checkWithdrawWaitlisted());
+            results.add(checkAvailabilityAfterCancel());
+            results.add(checkExpiryOnCreate());
+        } finally {
+            System.setOut(console);
+        }
+
+        results.forEach(System.out::println);
+        if (results.stream().anyMatch(result -> result.startsWith("FAIL"))) {
+            System.exit(1);
+        }
+    }
+
+    private static String checkWithdrawWaitlisted() {
+        HotelManager manager = new HotelManager();
+        Room room = new RoomFactory().createRoom(RoomType.STANDARD, "101");
+        manager.addRoom(room);
+        List<String> created = new ArrayList<>();
+        manager.addObserver(new CreatedCollector(created));
+
+        LocalDate checkIn = LocalDate.now().plusDays(10);
+        Reservation holder = new Reservation("Ali", room, checkIn, checkIn.plusDays(3));
+        Reservation waiting = new Reservation("Ayşe", room, checkIn.plusDays(1), checkIn.plusDays(2));
+        manager.createReservation(holder);
+        manager.createReservation(waiting);
+        manager.cancelReservation(waiting.getReservationId());
+        manager.cancelReservation(holder.getReservationId());
+
+        boolean withdrawn = waiting.getStatus() == ReservationStatus.CANCELLED
+                && manager.getWaitlistSize() == 0
+                && !manager.getReservations().contains(waiting)
+                && !created.contains(waiting.getReservationId());
+        return withdrawn ? "PASS - bekleme listesindeki talep iptal edilince oda ona verilmedi"
+                : "FAIL - iptal edilen bekleme talebi sonradan rezerve edildi";
+    }
+
+    private static String checkAvailabilityAfterCancel() {
+        HotelManager manager = new HotelManager();
+        Room room = new RoomFactory().createRoom(RoomType.DELUXE, "201");
+        manager.addRoom(room);
+
+        LocalDate checkIn = LocalDate.now().plusDays(20);
+        Reservation first = new Reservation("Can", room, checkIn, checkIn.plusDays(2));
+        Reservation second = new Reservation("Ece", room, checkIn.plusDays(2), checkIn.plusDays(4));
+        manager.createReservation(first);
+        manager.createReservation(second);
+
+        boolean blocked = !manager.isRoomAvailable(room, checkIn.plusDays(1), checkIn.plusDays(3))
+                && !manager.isRoomAvailable(room, checkIn.minusDays(1), checkIn.plusDays(5))
+                && manager.isRoomAvailable(room, checkIn.minusDays(2), checkIn)
+                && manager.isRoomAvailable(room, checkIn.plusDays(4), checkIn.plusDays(6));
+        manager.cancelReservation(first.getReservationId());
+        boolean freed = manager.isRoomAvailable(room, checkIn, checkIn.plusDays(2))
+                && !manager.isRoomAvailable(room, checkIn.plusDays(1), checkIn.plusDays(3));
+        return blocked && freed ? "PASS - oda bazlı müsaitlik indeksi iptal ile güncellendi"
+                : "FAIL - müsaitlik indeksi rezervasyonlarla uyuşmuyor";
+    }
+
+    private static String checkExpiryOnCreate() {
+        HotelManager manager = new HotelManager();
+        RoomFactory factory = new RoomFactory();
+        Room room = factory.createRoom(RoomType.SUITE, "301");
+        Room other = factory.createRoom(RoomType.SUITE, "302");
+        manager.addRoom(room);
+        manager.addRoom(other);
+
+        LocalDate past = LocalDate.now().minusDays(3);
+        Reservation holder = new Reservation("Deniz", room, past, past.plusDays(5));
+        Reservation stale = new Reservation("Eren", room, past.plusDays(1), past.plusDays(2));
+        manager.createReservation(holder);
+        manager.createReservation(stale);
+        boolean waitlisted = manager.getWaitlistSize() == 1;
+
+        LocalDate future = LocalDate.now().plusDays(5);
+        manager.createReservation(new Reservation("Fatma", other, future, future.plusDays(1)));
+        boolean expired = manager.getWaitlistSize() == 0 && stale.getStatus() == ReservationStatus.CANCELLED;
+        return waitlisted && expired ? "PASS - süresi geçmiş bekleme talepleri yeni rezervasyonda temizlendi"
+                : "FAIL - süresi geçmiş bekleme talebi listede kaldı";
+    }
+
+    private static class CreatedCollector implements ReservationObserver {
+        private final List<String> created;
+
+        private CreatedCollector(List<String> created) {
+            this.created = created;
+        }
+
+        @Override
+        public void onReservationCreated(Reservation reservation) {
+            created.add(reservation.getReservationId());
+        }
+
+        @Override
+        public void onReservationConfirmed(Reservation reservation) {
+        }
+
+        @Override
+        public void onReservationCancelled(Reservation reservation) {
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package advancedLevel.problem02HotelReservation.benchmark;
+
+import java.util.Arrays;
+
+public class LatencyStats {
+    private final String name;
+    private long[] samples;
+    private int count;
+    private long wallNanos;
+
+    public LatencyStats(String name, int expectedSamples) {
+        this.name = name;
+        this.samples = new long[Math.max(16, expectedSamples)];
+    }
+
+    public void record(long nanos) {
+        if (count == samples.length) {
+            samples = Arrays.copyOf(samples, samples.length * 2);
+        }
+        samples[count++] = nanos;
+    }
+
+    public synchronized void merge(LatencyStats other) {
+        for (int i = 0; i < other.count; i++) {
+            record(other.samples[i]);
+        }
+    }
+
+    public void setWallNanos(long wallNanos) {
+        this.wallNanos = wallNanos;
+    }
+
+    public long percentile(double p) {
+        if (count == 0) {
+            return 0;
+        }
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(p / 100.0 * count) - 1;
+        return sorted[Math.max(0, Math.min(count - 1, index))];
+    }
+
+    public double throughputPerSecond() {
+        return wallNanos == 0 ? 0 : count * 1_000_000_000.0 / wallNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%-22s ops=%-8d %,12.0f ops/s  p50=%,8.1fµs  p95=%,8.1fµs  p99=%,8.1fµs  max=%,9.1fµs",
+                name, count, throughputPerSecond(),
+                percentile(50) / 1000.0, percentile(95) / 1000.0, percentile(99) / 1000.0, percentile(100) / 1000.0);
+    }
+}
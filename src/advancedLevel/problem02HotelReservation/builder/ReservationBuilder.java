@@ -2,6 +2,7 @@ package advancedLevel.problem02HotelReservation.builder;
 
 import advancedLevel.problem02HotelReservation.models.Reservation;
 import advancedLevel.problem02HotelReservation.models.Room;
+import advancedLevel.problem02HotelReservation.pricing.RateCalendar;
 
 import java.time.LocalDate;
 
@@ -10,6 +11,7 @@ public class ReservationBuilder {
     private Room room;
     private LocalDate checkInDate;
     private LocalDate checkOutDate;
+    private RateCalendar rateCalendar;
 
     public ReservationBuilder setGuestName(String guestName) {
         this.guestName = guestName;
@@ -31,6 +33,11 @@ public class ReservationBuilder {
         return this;
     }
 
+    public ReservationBuilder setRateCalendar(RateCalendar rateCalendar) {
+        this.rateCalendar = rateCalendar;
+        return this;
+    }
+
     public Reservation build() {
         if (guestName == null || guestName.trim().isEmpty()) {
             throw new IllegalArgumentException("Misafir adı boş olamaz!");
@@ -52,6 +59,11 @@ public class ReservationBuilder {
             throw new IllegalArgumentException("Geçmiş tarihe rezervasyon yapılamaz!");
         }
 
+        if (rateCalendar != null) {
+            double totalPrice = rateCalendar.quote(room.getRoomType(), checkInDate, checkOutDate);
+            return new Reservation(guestName, room, checkInDate, checkOutDate, totalPrice);
+        }
+
         return new Reservation(guestName, room, checkInDate, checkOutDate);
     }
 }
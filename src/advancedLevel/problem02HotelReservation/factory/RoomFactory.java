@@ -2,15 +2,38 @@ package advancedLevel.problem02HotelReservation.factory;
 
 import advancedLevel.problem02HotelReservation.models.*;
 
+import java.util.EnumMap;
+import java.util.Map;
+
 public class RoomFactory {
+    private static final Map<RoomType, RoomDefinition> DEFINITIONS = new EnumMap<>(RoomType.class);
+
+    public static synchronized RoomDefinition getDefinition(RoomType type) {
+        return DEFINITIONS.computeIfAbsent(type, RoomFactory::createDefinition);
+    }
+
+    private static RoomDefinition createDefinition(RoomType type) {
+        switch (type) {
+            case STANDARD:
+                return StandartRoom.createDefinition();
+            case DELUXE:
+                return DeluxeRoom.createDefinition();
+            case SUITE:
+                return SuiteRoom.createDefinition();
+            default:
+                throw new IllegalArgumentException("Geçersiz oda tipi: " + type);
+        }
+    }
+
     public Room createRoom(RoomType type, String roomNumber) {
+        RoomDefinition definition = getDefinition(type);
         switch (type) {
             case STANDARD:
-                return new StandartRoom(roomNumber);
+                return new StandartRoom(roomNumber, definition);
             case DELUXE:
-                return new DeluxeRoom(roomNumber);
+                return new DeluxeRoom(roomNumber, definition);
             case SUITE:
-                return new SuiteRoom(roomNumber);
+                return new SuiteRoom(roomNumber, definition);
             default:
                 throw new IllegalArgumentException("Geçersiz oda tipi: " + type);
         }
@@ -1,5 +1,6 @@
 package advancedLevel.problem02HotelReservation.manager;
 
+import advancedLevel.problem02HotelReservation.models.Amenity;
 import advancedLevel.problem02HotelReservation.models.Reservation;
 import advancedLevel.problem02HotelReservation.models.ReservationStatus;
 import advancedLevel.problem02HotelReservation.models.Room;
@@ -7,9 +8,13 @@ import advancedLevel.problem02HotelReservation.observer.ReservationObserver;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 
 public class HotelManager {
     private static volatile HotelManager instance;
@@ -17,9 +22,17 @@ public class HotelManager {
     private final Map<String, Room> rooms;
     private final Map<String, Reservation> reservations;
     private final List<ReservationObserver> observers;
+    private final RoomIndex roomIndex;
+    private final Waitlist waitlist;
+    private final Map<String, Object> roomLocks;
+    private final Map<String, NavigableMap<LocalDate, Reservation>> bookingsByRoom;
 
     public HotelManager() {
         this.rooms = new ConcurrentHashMap<>();
+        this.roomIndex = new RoomIndex();
+        this.waitlist = new Waitlist();
+        this.roomLocks = new ConcurrentHashMap<>();
+        this.bookingsByRoom = new ConcurrentHashMap<>();
         this.reservations = new ConcurrentHashMap<>();
         this.observers = new ArrayList<>();
     }
@@ -63,21 +76,39 @@ public class HotelManager {
     }
 
     public void addRoom(Room room) {
-        rooms.put(room.getRoomNumber(), room);
+        Room previous = rooms.put(room.getRoomNumber(), room);
+        if (previous != null) {
+            roomIndex.remove(previous);
+        }
+        roomIndex.add(room);
         System.out.println("Oda eklendi: " + room);
     }
 
+    public List<Room> findRoomsWithAmenities(Amenity... required) {
+        return roomIndex.findRooms(required);
+    }
+
     public Room getRoom(String roomNumber) {
         return rooms.get(roomNumber);
     }
 
     public void createReservation(Reservation reservation) {
-        if (!isRoomAvailable(reservation.getRoom(), reservation.getCheckInDate(), reservation.getCheckOutDate())) {
-            System.out.println("Oda bu tarihler için müsait değil!");
+        if (reservations.containsKey(reservation.getReservationId())) {
+            System.out.println("Rezervasyon zaten mevcut: " + reservation.getReservationId().substring(0, 8));
             return;
         }
 
-        reservations.put(reservation.getReservationId(), reservation);
+        expireWaitlist();
+        synchronized (lockFor(reservation.getRoom())) {
+            if (!isRoomAvailable(reservation.getRoom(), reservation.getCheckInDate(), reservation.getCheckOutDate())) {
+                System.out.println("Oda bu tarihler için müsait değil!");
+                if (waitlist.add(reservation)) {
+                    System.out.println("Bekleme listesine alındı: " + reservation.getGuestName());
+                }
+                return;
+            }
+            book(reservation);
+        }
         System.out.println("Rezervasyon oluşturuldu: " + reservation);
 
         notifyReservationCreated(reservation);
@@ -104,7 +135,7 @@ public class HotelManager {
     public void cancelReservation(String reservationId) {
         Reservation reservation = reservations.get(reservationId);
         if (reservation == null) {
-            System.out.println("Rezervasyon bulunamadı!");
+            withdrawFromWaitlist(reservationId);
             return;
         }
 
@@ -113,33 +144,96 @@ public class HotelManager {
             return;
         }
 
-        reservation.setStatus(ReservationStatus.CANCELLED);
+        synchronized (lockFor(reservation.getRoom())) {
+            if (reservation.getStatus() == ReservationStatus.CANCELLED) {
+                System.out.println("Rezervasyon zaten iptal edilmiş!");
+                return;
+            }
+            reservation.setStatus(ReservationStatus.CANCELLED);
+            scheduleOf(reservation.getRoom()).remove(reservation.getCheckInDate(), reservation);
+        }
         System.out.println("Rezervasyon iptal edildi: " + reservationId.substring(0, 8));
 
         notifyReservationCancelled(reservation);
+
+        fillFromWaitlist(reservation.getRoom(), reservation.getCheckInDate(), reservation.getCheckOutDate());
     }
 
-    public boolean isRoomAvailable(Room room, LocalDate checkIn, LocalDate checkOut) {
-        for (Reservation reservation : reservations.values()) {
-            if (reservation.getStatus() == ReservationStatus.CANCELLED) {
-                continue;
-            }
+    public int getWaitlistSize() {
+        return waitlist.size();
+    }
 
-            if (!reservation.getRoom().getRoomNumber().equals(room.getRoomNumber())) {
-                continue;
+    private void withdrawFromWaitlist(String reservationId) {
+        Reservation waiting = waitlist.remove(reservationId);
+        if (waiting == null) {
+            if (reservations.containsKey(reservationId)) {
+                cancelReservation(reservationId);
+            } else {
+                System.out.println("Rezervasyon bulunamadı!");
             }
+            return;
+        }
+
+        waiting.setStatus(ReservationStatus.CANCELLED);
+        System.out.println("Bekleme listesinden çekildi: " + reservationId.substring(0, 8));
+
+        notifyReservationCancelled(waiting);
+    }
 
-            boolean noOverlap = checkOut.isBefore(reservation.getCheckInDate()) ||
-                    checkOut.isEqual(reservation.getCheckInDate()) ||
-                    checkIn.isAfter(reservation.getCheckOutDate()) ||
-                    checkIn.isEqual(reservation.getCheckOutDate());
+    private void expireWaitlist() {
+        for (Reservation expired : waitlist.expireBefore(LocalDate.now())) {
+            expired.setStatus(ReservationStatus.CANCELLED);
+            System.out.println("Bekleme listesi süresi doldu (giriş tarihi geçti): " + expired);
+        }
+    }
+
+    private void fillFromWaitlist(Room room, LocalDate freedFrom, LocalDate freedTo) {
+        expireWaitlist();
 
-            if (!noOverlap) {
-                return false;
+        for (Reservation waiting : waitlist.candidatesFor(room.getRoomType(), freedFrom, freedTo)) {
+            synchronized (lockFor(room)) {
+                if (!isRoomAvailable(room, waiting.getCheckInDate(), waiting.getCheckOutDate())) {
+                    continue;
+                }
+
+                if (!waitlist.remove(waiting)) {
+                    continue;
+                }
+
+                waiting.reassignRoom(room);
+                book(waiting);
             }
+            System.out.println("Bekleme listesinden rezervasyon oluşturuldu: " + waiting);
+
+            notifyReservationCreated(waiting);
+        }
+    }
+
+    private void book(Reservation reservation) {
+        reservations.put(reservation.getReservationId(), reservation);
+        scheduleOf(reservation.getRoom()).put(reservation.getCheckInDate(), reservation);
+    }
+
+    private NavigableMap<LocalDate, Reservation> scheduleOf(Room room) {
+        return bookingsByRoom.computeIfAbsent(room.getRoomNumber(), number -> new ConcurrentSkipListMap<>());
+    }
+
+    private Object lockFor(Room room) {
+        return roomLocks.computeIfAbsent(room.getRoomNumber(), number -> new Object());
+    }
+
+    public Collection<Reservation> getReservations() {
+        return Collections.unmodifiableCollection(reservations.values());
+    }
+
+    public boolean isRoomAvailable(Room room, LocalDate checkIn, LocalDate checkOut) {
+        NavigableMap<LocalDate, Reservation> schedule = bookingsByRoom.get(room.getRoomNumber());
+        if (schedule == null) {
+            return true;
         }
 
-        return true;
+        Map.Entry<LocalDate, Reservation> before = schedule.lowerEntry(checkOut);
+        return before == null || !before.getValue().getCheckOutDate().isAfter(checkIn);
     }
 
     public void displayAllReservations() {
@@ -0,0 +1,46 @@
+package advancedLevel.problem02HotelReservation.manager;
+
+import advancedLevel.problem02HotelReservation.models.Amenity;
+import advancedLevel.problem02HotelReservation.models.Room;
+import advancedLevel.problem02HotelReservation.models.RoomDefinition;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class RoomIndex {
+    private final Map<RoomDefinition, Set<Room>> roomsByDefinition;
+
+    public RoomIndex() {
+        this.roomsByDefinition = new ConcurrentHashMap<>();
+    }
+
+    public void add(Room room) {
+        roomsByDefinition
+                .computeIfAbsent(room.getDefinition(), definition -> ConcurrentHashMap.newKeySet())
+                .add(room);
+    }
+
+    public void remove(Room room) {
+        Set<Room> bucket = roomsByDefinition.get(room.getDefinition());
+        if (bucket != null) {
+            bucket.remove(room);
+        }
+    }
+
+    public List<Room> findRooms(Amenity... required) {
+        return findRooms(Amenity.maskOf(required));
+    }
+
+    public List<Room> findRooms(long requiredMask) {
+        List<Room> result = new ArrayList<>();
+        for (Map.Entry<RoomDefinition, Set<Room>> entry : roomsByDefinition.entrySet()) {
+            if (entry.getKey().hasAll(requiredMask)) {
+                result.addAll(entry.getValue());
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,127 @@
+package advancedLevel.problem02HotelReservation.manager;
+
+import advancedLevel.problem02HotelReservation.models.Reservation;
+import advancedLevel.problem02HotelReservation.models.RoomType;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+public class Waitlist {
+    private final Map<RoomType, TreeMap<LocalDate, List<Reservation>>> byCheckIn;
+    private final Map<RoomType, Long> longestStay;
+    private final Map<String, Long> sequences;
+    private final Map<String, Reservation> byId;
+    private long nextSequence;
+
+    public Waitlist() {
+        this.byCheckIn = new EnumMap<>(RoomType.class);
+        this.longestStay = new EnumMap<>(RoomType.class);
+        this.sequences = new HashMap<>();
+        this.byId = new HashMap<>();
+    }
+
+    public synchronized boolean add(Reservation reservation) {
+        if (sequences.containsKey(reservation.getReservationId())) {
+            return false;
+        }
+
+        RoomType type = reservation.getRoom().getRoomType();
+        byCheckIn.computeIfAbsent(type, t -> new TreeMap<>())
+                .computeIfAbsent(reservation.getCheckInDate(), d -> new ArrayList<>())
+                .add(reservation);
+        longestStay.merge(type, nightsOf(reservation), Math::max);
+        sequences.put(reservation.getReservationId(), nextSequence++);
+        byId.put(reservation.getReservationId(), reservation);
+        return true;
+    }
+
+    public synchronized boolean remove(Reservation reservation) {
+        if (sequences.remove(reservation.getReservationId()) == null) {
+            return false;
+        }
+        unindex(reservation);
+        return true;
+    }
+
+    public synchronized Reservation remove(String reservationId) {
+        if (sequences.remove(reservationId) == null) {
+            return null;
+        }
+        Reservation reservation = byId.get(reservationId);
+        unindex(reservation);
+        return reservation;
+    }
+
+    private void unindex(Reservation reservation) {
+        byId.remove(reservation.getReservationId());
+        TreeMap<LocalDate, List<Reservation>> index = byCheckIn.get(reservation.getRoom().getRoomType());
+        List<Reservation> sameDay = index.get(reservation.getCheckInDate());
+        sameDay.remove(reservation);
+        if (sameDay.isEmpty()) {
+            index.remove(reservation.getCheckInDate());
+        }
+    }
+
+    public synchronized List<Reservation> expireBefore(LocalDate date) {
+        List<Reservation> expired = new ArrayList<>();
+        for (TreeMap<LocalDate, List<Reservation>> index : byCheckIn.values()) {
+            Map<LocalDate, List<Reservation>> past = index.headMap(date, false);
+            for (List<Reservation> sameDay : past.values()) {
+                for (Reservation reservation : sameDay) {
+                    sequences.remove(reservation.getReservationId());
+                    byId.remove(reservation.getReservationId());
+                    expired.add(reservation);
+                }
+            }
+            past.clear();
+        }
+        return expired;
+    }
+
+    public synchronized boolean contains(String reservationId) {
+        return sequences.containsKey(reservationId);
+    }
+
+    public synchronized int size() {
+        return sequences.size();
+    }
+
+    public synchronized List<Reservation> candidatesFor(RoomType type, LocalDate freedFrom, LocalDate freedTo) {
+        TreeMap<LocalDate, List<Reservation>> index = byCheckIn.get(type);
+        List<Reservation> candidates = new ArrayList<>();
+        if (index == null || index.isEmpty()) {
+            return candidates;
+        }
+
+        LocalDate earliestCheckIn = freedFrom.minusDays(longestStay.get(type));
+        for (List<Reservation> sameDay : index.subMap(earliestCheckIn, false, freedTo, false).values()) {
+            for (Reservation reservation : sameDay) {
+                if (reservation.getCheckOutDate().isAfter(freedFrom)) {
+                    candidates.add(reservation);
+                }
+            }
+        }
+
+        candidates.sort(Comparator
+                .comparingLong((Reservation r) -> -overlapNights(r, freedFrom, freedTo))
+                .thenComparingLong(r -> sequences.get(r.getReservationId())));
+        return candidates;
+    }
+
+    private static long overlapNights(Reservation reservation, LocalDate from, LocalDate to) {
+        LocalDate start = reservation.getCheckInDate().isAfter(from) ? reservation.getCheckInDate() : from;
+        LocalDate end = reservation.getCheckOutDate().isBefore(to) ? reservation.getCheckOutDate() : to;
+        return ChronoUnit.DAYS.between(start, end);
+    }
+
+    private static long nightsOf(Reservation reservation) {
+        return ChronoUnit.DAYS.between(reservation.getCheckInDate(), reservation.getCheckOutDate());
+    }
+}
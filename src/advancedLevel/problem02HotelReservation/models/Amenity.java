@@ -0,0 +1,52 @@
+package advancedLevel.problem02HotelReservation.models;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public enum Amenity {
+    WIFI("WiFi"),
+    TV("TV"),
+    SMART_TV("Smart TV"),
+    KLIMA("Klima"),
+    MINIBAR("Minibar"),
+    BALKON("Balkon"),
+    JAKUZI("Jakuzi"),
+    DENIZ_MANZARASI("Deniz Manzarası"),
+    OTURMA_ODASI("Oturma Odası");
+
+    private static final Amenity[] VALUES = values();
+
+    private final String displayName;
+    private final long mask;
+
+    Amenity(String displayName) {
+        this.displayName = displayName;
+        this.mask = 1L << ordinal();
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public long mask() {
+        return mask;
+    }
+
+    public static long maskOf(Amenity... amenities) {
+        long mask = 0L;
+        for (Amenity amenity : amenities) {
+            mask |= amenity.mask;
+        }
+        return mask;
+    }
+
+    public static List<String> displayNames(long mask) {
+        List<String> names = new ArrayList<>(Long.bitCount(mask));
+        for (Amenity amenity : VALUES) {
+            if ((mask & amenity.mask) != 0) {
+                names.add(amenity.displayName);
+            }
+        }
+        return names;
+    }
+}
@@ -1,17 +1,14 @@
 package advancedLevel.problem02HotelReservation.models;
 
+import static advancedLevel.problem02HotelReservation.models.Amenity.*;
+
 public class DeluxeRoom extends Room {
-    public DeluxeRoom(String roomNumber) {
-        super(roomNumber, RoomType.DELUXE, 1000.0, 3);
-        setupAmenities();
+    public DeluxeRoom(String roomNumber, RoomDefinition definition) {
+        super(roomNumber, definition);
     }
 
-    @Override
-    protected void setupAmenities() {
-        amenities.add("WiFi");
-        amenities.add("Smart TV");
-        amenities.add("Klima");
-        amenities.add("Minibar");
-        amenities.add("Balkon");
+    public static RoomDefinition createDefinition() {
+        return new RoomDefinition(RoomType.DELUXE, 1000.0, 3,
+                Amenity.maskOf(WIFI, SMART_TV, KLIMA, MINIBAR, BALKON));
     }
 }
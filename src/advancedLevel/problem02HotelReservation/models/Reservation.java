@@ -14,16 +14,20 @@ public class Reservation {
     private ReservationStatus status;
 
     public Reservation(String guestName, Room room, LocalDate checkInDate, LocalDate checkOutDate) {
+        this(guestName, room, checkInDate, checkOutDate, calculateTotalPrice(room, checkInDate, checkOutDate));
+    }
+
+    public Reservation(String guestName, Room room, LocalDate checkInDate, LocalDate checkOutDate, double totalPrice) {
         this.reservationId = UUID.randomUUID().toString();
         this.guestName = guestName;
         this.room = room;
         this.checkInDate = checkInDate;
         this.checkOutDate = checkOutDate;
-        this.totalPrice = calculateTotalPrice();
+        this.totalPrice = totalPrice;
         this.status = ReservationStatus.PENDING;
     }
 
-    private double calculateTotalPrice() {
+    private static double calculateTotalPrice(Room room, LocalDate checkInDate, LocalDate checkOutDate) {
         long nights = ChronoUnit.DAYS.between(checkInDate, checkOutDate);
         return nights * room.getPricePerNight();
     }
@@ -60,6 +64,13 @@ public class Reservation {
         this.status = status;
     }
 
+    public void reassignRoom(Room room) {
+        if (room.getRoomType() != this.room.getRoomType()) {
+            throw new IllegalArgumentException("Rezervasyon sadece aynı tipteki bir odaya taşınabilir!");
+        }
+        this.room = room;
+    }
+
     @Override
     public String toString() {
         return String.format("Rezervasyon[%s] - %s - %s - %s to %s - %.2f TL - Status: %s",
@@ -1,21 +1,14 @@
 package advancedLevel.problem02HotelReservation.models;
 
-import java.util.ArrayList;
 import java.util.List;
 
 public abstract class Room {
     protected String roomNumber;
-    protected RoomType roomType;
-    protected double pricePerNight;
-    protected int maxGuests;
-    protected List<String> amenities;
+    protected RoomDefinition definition;
 
-    public Room(String roomNumber, RoomType roomType, double pricePerNight, int maxGuests) {
+    public Room(String roomNumber, RoomDefinition definition) {
         this.roomNumber = roomNumber;
-        this.roomType = roomType;
-        this.pricePerNight = pricePerNight;
-        this.maxGuests = maxGuests;
-        this.amenities = new ArrayList<>();
+        this.definition = definition;
     }
 
     public String getRoomNumber() {
@@ -23,25 +16,39 @@ public abstract class Room {
     }
 
     public RoomType getRoomType() {
-        return roomType;
+        return definition.getRoomType();
     }
 
     public double getPricePerNight() {
-        return pricePerNight;
+        return definition.getPricePerNight();
     }
 
     public int getMaxGuests() {
-        return maxGuests;
+        return definition.getMaxGuests();
+    }
+
+    public RoomDefinition getDefinition() {
+        return definition;
     }
 
     public List<String> getAmenities() {
-        return amenities;
+        return definition.getAmenityNames();
+    }
+
+    public long getAmenityMask() {
+        return definition.getAmenityMask();
     }
 
-    protected abstract void setupAmenities();
+    public boolean hasAmenities(long requiredMask) {
+        return definition.hasAll(requiredMask);
+    }
+
+    public boolean hasAmenity(Amenity amenity) {
+        return definition.hasAll(amenity.mask());
+    }
 
     @Override
     public String toString() {
-        return String.format("%s Room #%s - %.2f TL/gece (Max %d kişi) - Özellikler: %s", roomType, roomNumber, pricePerNight, maxGuests, amenities);
+        return String.format("%s Room #%s - %.2f TL/gece (Max %d kişi) - Özellikler: %s", getRoomType(), roomNumber, getPricePerNight(), getMaxGuests(), getAmenities());
     }
 }
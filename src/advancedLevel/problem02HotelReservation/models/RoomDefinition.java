@@ -0,0 +1,44 @@
+package advancedLevel.problem02HotelReservation.models;
+
+import java.util.Collections;
+import java.util.List;
+
+public final class RoomDefinition {
+    private final RoomType roomType;
+    private final double pricePerNight;
+    private final int maxGuests;
+    private final long amenityMask;
+    private final List<String> amenityNames;
+
+    public RoomDefinition(RoomType roomType, double pricePerNight, int maxGuests, long amenityMask) {
+        this.roomType = roomType;
+        this.pricePerNight = pricePerNight;
+        this.maxGuests = maxGuests;
+        this.amenityMask = amenityMask;
+        this.amenityNames = Collections.unmodifiableList(Amenity.displayNames(amenityMask));
+    }
+
+    public RoomType getRoomType() {
+        return roomType;
+    }
+
+    public double getPricePerNight() {
+        return pricePerNight;
+    }
+
+    public int getMaxGuests() {
+        return maxGuests;
+    }
+
+    public long getAmenityMask() {
+        return amenityMask;
+    }
+
+    public List<String> getAmenityNames() {
+        return amenityNames;
+    }
+
+    public boolean hasAll(long requiredMask) {
+        return (amenityMask & requiredMask) == requiredMask;
+    }
+}
@@ -1,15 +1,14 @@
 package advancedLevel.problem02HotelReservation.models;
 
+import static advancedLevel.problem02HotelReservation.models.Amenity.*;
+
 public class StandartRoom extends Room {
-    public StandartRoom(String roomNumber) {
-        super(roomNumber, RoomType.STANDARD, 500.0, 2);
-        setupAmenities();
+    public StandartRoom(String roomNumber, RoomDefinition definition) {
+        super(roomNumber, definition);
     }
 
-    @Override
-    protected void setupAmenities() {
-        amenities.add("WiFi");
-        amenities.add("TV");
-        amenities.add("Klima");
+    public static RoomDefinition createDefinition() {
+        return new RoomDefinition(RoomType.STANDARD, 500.0, 2,
+                Amenity.maskOf(WIFI, TV, KLIMA));
     }
 }
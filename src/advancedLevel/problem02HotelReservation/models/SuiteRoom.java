@@ -1,19 +1,14 @@
 package advancedLevel.problem02HotelReservation.models;
 
+import static advancedLevel.problem02HotelReservation.models.Amenity.*;
+
 public class SuiteRoom extends Room {
-    public SuiteRoom(String roomNumber) {
-        super(roomNumber, RoomType.SUITE, 2500.0, 4);
-        setupAmenities();
+    public SuiteRoom(String roomNumber, RoomDefinition definition) {
+        super(roomNumber, definition);
     }
 
-    @Override
-    protected void setupAmenities() {
-        amenities.add("WiFi");
-        amenities.add("Smart TV");
-        amenities.add("Klima");
-        amenities.add("Minibar");
-        amenities.add("Jakuzi");
-        amenities.add("Deniz Manzarası");
-        amenities.add("Oturma Odası");
+    public static RoomDefinition createDefinition() {
+        return new RoomDefinition(RoomType.SUITE, 2500.0, 4,
+                Amenity.maskOf(WIFI, SMART_TV, KLIMA, MINIBAR, JAKUZI, DENIZ_MANZARASI, OTURMA_ODASI));
     }
 }
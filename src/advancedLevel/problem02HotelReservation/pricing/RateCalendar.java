@@ -0,0 +1,142 @@
+package advancedLevel.problem02HotelReservation.pricing;
+
+import advancedLevel.problem02HotelReservation.factory.RoomFactory;
+import advancedLevel.problem02HotelReservation.models.RoomType;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class RateCalendar {
+    private final LocalDate startDate;
+    private final int horizonDays;
+    private final Map<RoomType, double[]> dailyRates;
+    private final Map<RoomType, Double> weekendSurcharges;
+    private final TreeMap<Integer, Double> lengthOfStayDiscounts;
+    private final Map<RoomType, RatePlan> planCache;
+
+    public RateCalendar(LocalDate startDate, int horizonDays) {
+        if (horizonDays <= 0) {
+            throw new IllegalArgumentException("Takvim uzunluğu pozitif olmalı!");
+        }
+        this.startDate = startDate;
+        this.horizonDays = horizonDays;
+        this.dailyRates = new EnumMap<>(RoomType.class);
+        this.weekendSurcharges = new EnumMap<>(RoomType.class);
+        this.lengthOfStayDiscounts = new TreeMap<>();
+        this.planCache = new ConcurrentHashMap<>();
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return startDate.plusDays(horizonDays);
+    }
+
+    public synchronized void setBaseRate(RoomType type, double rate) {
+        validateRate(rate);
+        Arrays.fill(ratesOf(type), rate);
+        planCache.remove(type);
+    }
+
+    public synchronized void setRate(RoomType type, LocalDate from, LocalDate to, double rate) {
+        validateRate(rate);
+        double[] rates = ratesOf(type);
+        int start = clamp(from);
+        int end = clamp(to);
+        for (int day = start; day < end; day++) {
+            rates[day] = rate;
+        }
+        planCache.remove(type);
+    }
+
+    public synchronized void applyWeekendSurcharge(RoomType type, double percent) {
+        if (!(percent >= 0) || Double.isInfinite(percent)) {
+            throw new IllegalArgumentException("Geçersiz hafta sonu zammı: %" + percent);
+        }
+        if (percent == 0) {
+            weekendSurcharges.remove(type);
+        } else {
+            weekendSurcharges.put(type, percent);
+        }
+        planCache.remove(type);
+    }
+
+    public synchronized void addLengthOfStayDiscount(int minNights, double percent) {
+        if (minNights <= 0 || percent < 0 || percent >= 100) {
+            throw new IllegalArgumentException("Geçersiz konaklama indirimi: " + minNights + " gece / %" + percent);
+        }
+        lengthOfStayDiscounts.put(minNights, percent);
+        planCache.clear();
+    }
+
+    public RatePlan getRatePlan(RoomType type) {
+        RatePlan plan = planCache.get(type);
+        if (plan != null) {
+            return plan;
+        }
+        synchronized (this) {
+            return planCache.computeIfAbsent(type, this::buildPlan);
+        }
+    }
+
+    public double quote(RoomType type, LocalDate checkIn, LocalDate checkOut) {
+        return getRatePlan(type).priceOf(checkIn, checkOut);
+    }
+
+    private RatePlan buildPlan(RoomType type) {
+        int[] minNights = new int[lengthOfStayDiscounts.size()];
+        double[] percents = new double[lengthOfStayDiscounts.size()];
+        int i = 0;
+        for (Map.Entry<Integer, Double> entry : lengthOfStayDiscounts.entrySet()) {
+            minNights[i] = entry.getKey();
+            percents[i] = entry.getValue();
+            i++;
+        }
+        return new RatePlan(type, startDate, effectiveRatesOf(type), minNights, percents);
+    }
+
+    private double[] effectiveRatesOf(RoomType type) {
+        double[] rates = ratesOf(type);
+        Double surcharge = weekendSurcharges.get(type);
+        if (surcharge == null) {
+            return rates;
+        }
+
+        double[] effective = rates.clone();
+        double factor = 1 + surcharge / 100.0;
+        for (int day = 0; day < horizonDays; day++) {
+            DayOfWeek dayOfWeek = startDate.plusDays(day).getDayOfWeek();
+            if (dayOfWeek == DayOfWeek.FRIDAY || dayOfWeek == DayOfWeek.SATURDAY) {
+                effective[day] *= factor;
+            }
+        }
+        return effective;
+    }
+
+    private double[] ratesOf(RoomType type) {
+        return dailyRates.computeIfAbsent(type, t -> {
+            double[] rates = new double[horizonDays];
+            Arrays.fill(rates, RoomFactory.getDefinition(t).getPricePerNight());
+            return rates;
+        });
+    }
+
+    private int clamp(LocalDate date) {
+        long day = ChronoUnit.DAYS.between(startDate, date);
+        return (int) Math.max(0, Math.min(horizonDays, day));
+    }
+
+    private void validateRate(double rate) {
+        if (rate <= 0) {
+            throw new IllegalArgumentException("Gecelik fiyat pozitif olmalı: " + rate);
+        }
+    }
+}
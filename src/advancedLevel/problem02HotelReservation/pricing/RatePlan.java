@@ -0,0 +1,63 @@
+package advancedLevel.problem02HotelReservation.pricing;
+
+import advancedLevel.problem02HotelReservation.models.RoomType;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+public final class RatePlan {
+    private final RoomType roomType;
+    private final LocalDate startDate;
+    private final double[] prefixSums;
+    private final int[] discountMinNights;
+    private final double[] discountPercents;
+
+    RatePlan(RoomType roomType, LocalDate startDate, double[] dailyRates, int[] discountMinNights, double[] discountPercents) {
+        this.roomType = roomType;
+        this.startDate = startDate;
+        this.prefixSums = new double[dailyRates.length + 1];
+        for (int i = 0; i < dailyRates.length; i++) {
+            prefixSums[i + 1] = prefixSums[i] + dailyRates[i];
+        }
+        this.discountMinNights = discountMinNights;
+        this.discountPercents = discountPercents;
+    }
+
+    public RoomType getRoomType() {
+        return roomType;
+    }
+
+    public double getRate(LocalDate date) {
+        int day = toIndex(date);
+        if (day < 0 || day >= prefixSums.length - 1) {
+            throw new IllegalArgumentException("Tarih fiyat takvimi dışında: " + date);
+        }
+        return prefixSums[day + 1] - prefixSums[day];
+    }
+
+    public double priceOf(LocalDate checkIn, LocalDate checkOut) {
+        int from = toIndex(checkIn);
+        int to = toIndex(checkOut);
+        if (from < 0 || to > prefixSums.length - 1) {
+            throw new IllegalArgumentException("Tarihler fiyat takvimi dışında: " + checkIn + " - " + checkOut);
+        }
+        if (to <= from) {
+            throw new IllegalArgumentException("Check-out tarihi check-in'den sonra olmalı!");
+        }
+
+        double gross = prefixSums[to] - prefixSums[from];
+        return gross * (1 - discountFor(to - from) / 100.0);
+    }
+
+    private double discountFor(int nights) {
+        double percent = 0;
+        for (int i = 0; i < discountMinNights.length && discountMinNights[i] <= nights; i++) {
+            percent = discountPercents[i];
+        }
+        return percent;
+    }
+
+    private int toIndex(LocalDate date) {
+        return (int) ChronoUnit.DAYS.between(startDate, date);
+    }
+}
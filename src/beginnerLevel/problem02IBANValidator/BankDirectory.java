@@ -0,0 +1,229 @@
+package beginnerLevel.problem02IBANValidator;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+
+public class BankDirectory {
+    private static final int KEYS_PER_BUCKET = 4;
+    private static final int MAX_SEED = 1 << 20;
+    private static final long SEED_MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+    private final long[] keys;
+    private final BankInfo[] banks;
+    private final int[] seeds;
+
+    private BankDirectory(List<BankInfo> entries) {
+        int size = entries.size();
+        long[] entryKeys = new long[size];
+        for (int i = 0; i < size; i++) {
+            BankInfo bank = entries.get(i);
+            entryKeys[i] = keyOf(bank.getCountryCode(), bank.getBankCode());
+            if (entryKeys[i] < 0) {
+                throw new IllegalArgumentException("Desteklenmeyen banka kodu: " + bank.getCountryCode() + "-" + bank.getBankCode());
+            }
+        }
+
+        long[] sorted = entryKeys.clone();
+        Arrays.sort(sorted);
+        for (int i = 1; i < size; i++) {
+            if (sorted[i] == sorted[i - 1]) {
+                throw new IllegalArgumentException("Yinelenen banka kodu dizinde birden fazla kez geçiyor!");
+            }
+        }
+
+        this.keys = new long[size];
+        this.banks = new BankInfo[size];
+        this.seeds = new int[Math.max(1, (size + KEYS_PER_BUCKET - 1) / KEYS_PER_BUCKET)];
+        if (size > 0) {
+            build(entries, entryKeys);
+        }
+    }
+
+    public static BankDirectory load(Path file) throws IOException {
+        List<BankInfo> entries = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] fields = line.split(";", 4);
+                if (fields.length < 3) {
+                    throw new IllegalArgumentException("Hatalı banka kaydı, satır " + lineNumber + ": " + line);
+                }
+                entries.add(new BankInfo(fields[0].trim(), fields[1].trim(), fields[2].trim(),
+                        fields.length > 3 ? fields[3].trim() : ""));
+            }
+        }
+        return new BankDirectory(entries);
+    }
+
+    public static BankDirectory of(List<BankInfo> entries) {
+        return new BankDirectory(entries);
+    }
+
+    public BankInfo resolve(CharSequence iban) {
+        return find(keyOf(iban, null, 0, iban == null ? 0 : iban.length()));
+    }
+
+    public BankInfo resolve(byte[] iban, int offset, int length) {
+        if (iban != null) {
+            Objects.checkFromIndexSize(offset, length, iban.length);
+        }
+        return find(keyOf(null, iban, offset, iban == null ? 0 : length));
+    }
+
+    public int size() {
+        return keys.length;
+    }
+
+    public double getHashBitsPerKey() {
+        return keys.length == 0 ? 0 : seeds.length * 32.0 / keys.length;
+    }
+
+    private BankInfo find(long key) {
+        if (key < 0 || keys.length == 0) {
+            return null;
+        }
+        int slot = slotOf(key, seeds[bucketOf(key)]);
+        return keys[slot] == key ? banks[slot] : null;
+    }
+
+    private void build(List<BankInfo> entries, long[] entryKeys) {
+        int[][] buckets = new int[seeds.length][];
+        int[] bucketSizes = new int[seeds.length];
+        for (int i = 0; i < entryKeys.length; i++) {
+            int bucket = bucketOf(entryKeys[i]);
+            if (buckets[bucket] == null) {
+                buckets[bucket] = new int[KEYS_PER_BUCKET];
+            } else if (bucketSizes[bucket] == buckets[bucket].length) {
+                buckets[bucket] = Arrays.copyOf(buckets[bucket], bucketSizes[bucket] * 2);
+            }
+            buckets[bucket][bucketSizes[bucket]++] = i;
+        }
+
+        Integer[] order = new Integer[seeds.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> bucketSizes[b] - bucketSizes[a]);
+
+        BitSet taken = new BitSet(keys.length);
+        int[] slots = new int[KEYS_PER_BUCKET * 4];
+        for (int bucket : order) {
+            int count = bucketSizes[bucket];
+            if (count == 0) {
+                break;
+            }
+            if (slots.length < count) {
+                slots = new int[count];
+            }
+
+            int seed = findSeed(buckets[bucket], count, entryKeys, taken, slots);
+            seeds[bucket] = seed;
+            for (int i = 0; i < count; i++) {
+                int entry = buckets[bucket][i];
+                taken.set(slots[i]);
+                keys[slots[i]] = entryKeys[entry];
+                banks[slots[i]] = entries.get(entry);
+            }
+        }
+    }
+
+    private int findSeed(int[] bucket, int count, long[] entryKeys, BitSet taken, int[] slots) {
+        for (int seed = 0; seed < MAX_SEED; seed++) {
+            boolean fits = true;
+            for (int i = 0; i < count && fits; i++) {
+                slots[i] = slotOf(entryKeys[bucket[i]], seed);
+                if (taken.get(slots[i])) {
+                    fits = false;
+                }
+                for (int j = 0; j < i && fits; j++) {
+                    if (slots[j] == slots[i]) {
+                        fits = false;
+                    }
+                }
+            }
+            if (fits) {
+                return seed;
+            }
+        }
+        throw new IllegalStateException("Mükemmel hash tablosu oluşturulamadı!");
+    }
+
+    private int bucketOf(long key) {
+        return (int) Long.remainderUnsigned(mix(key), seeds.length);
+    }
+
+    private int slotOf(long key, int seed) {
+        return (int) Long.remainderUnsigned(mix(key ^ (seed + 1) * SEED_MULTIPLIER), keys.length);
+    }
+
+    private static long mix(long value) {
+        value = (value ^ (value >>> 33)) * 0xFF51AFD7ED558CCDL;
+        value = (value ^ (value >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return value ^ (value >>> 33);
+    }
+
+    private static long keyOf(String countryCode, String bankCode) {
+        if (countryCode.length() != 2 || bankCode.isEmpty() || IBANRegistry.bankCodeLength(countryCode.charAt(0), countryCode.charAt(1)) != bankCode.length()) {
+            return -1;
+        }
+        long key = IBANRegistry.slotOf(countryCode.charAt(0), countryCode.charAt(1));
+        for (int i = 0; i < bankCode.length(); i++) {
+            int code = codeOf(bankCode.charAt(i));
+            if (code < 0) {
+                return -1;
+            }
+            key = (key << 6) | code;
+        }
+        return key;
+    }
+
+    private static long keyOf(CharSequence chars, byte[] bytes, int offset, int length) {
+        if (length < 4) {
+            return -1;
+        }
+        char first = charAt(chars, bytes, offset);
+        char second = charAt(chars, bytes, offset + 1);
+        int bankOffset = IBANRegistry.bankCodeOffset(first, second);
+        int bankLength = IBANRegistry.bankCodeLength(first, second);
+        if (bankOffset < 0 || bankOffset + bankLength > length) {
+            return -1;
+        }
+
+        long key = IBANRegistry.slotOf(first, second);
+        for (int i = 0; i < bankLength; i++) {
+            int code = codeOf(charAt(chars, bytes, offset + bankOffset + i));
+            if (code < 0) {
+                return -1;
+            }
+            key = (key << 6) | code;
+        }
+        return key;
+    }
+
+    private static int codeOf(char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0' + 1;
+        }
+        if (c >= 'A' && c <= 'Z') {
+            return c - 'A' + 11;
+        }
+        return -1;
+    }
+
+    private static char charAt(CharSequence chars, byte[] bytes, int index) {
+        return chars != null ? chars.charAt(index) : (char) (bytes[index] & 0xFF);
+    }
+}
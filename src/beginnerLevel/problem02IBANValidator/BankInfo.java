@@ -0,0 +1,36 @@
+package beginnerLevel.problem02IBANValidator;
+
+public class BankInfo {
+    private final String countryCode;
+    private final String bankCode;
+    private final String name;
+    private final String bic;
+
+    public BankInfo(String countryCode, String bankCode, String name, String bic) {
+        this.countryCode = countryCode;
+        this.bankCode = bankCode;
+        this.name = name;
+        this.bic = bic;
+    }
+
+    public String getCountryCode() {
+        return countryCode;
+    }
+
+    public String getBankCode() {
+        return bankCode;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getBic() {
+        return bic;
+    }
+
+    @Override
+    public String toString() {
+        return countryCode + "-" + bankCode + " " + name + (bic.isEmpty() ? "" : " (" + bic + ")");
+    }
+}
@@ -0,0 +1,117 @@
+package beginnerLevel.problem02IBANValidator;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+public class BankLookupDemo {
+    public static void main(String[] args) throws IOException {
+        Path file = Paths.get(args.length > 0 ? args[0] : "src/beginnerLevel/problem02IBANValidator/banks.txt");
+        BankDirectory directory = BankDirectory.load(file);
+        System.out.println(directory.size() + " banka yüklendi (" + file + ")");
+
+        testResolve(directory, "TR210001000012345678901234", "00010");
+        testResolve(directory, "DE89370400440532013000", "37040044");
+        testResolve(directory, "GB29NWBK60161331926819", "NWBK");
+        testResolve(directory, "TR210001000012345678901235", null);
+        testResolve(directory, "NO9386011117947", null);
+
+        BankDirectory examples = BankDirectory.of(List.of(
+                new BankInfo("TR", "00061", "Örnek Banka (README örnek IBAN'ı)", ""),
+                new BankInfo("GB", "WEST", "Örnek Banka (WEST)", "")));
+        testResolve(examples, "TR330006100519786457841326", "00061");
+        testResolve(examples, "GB82WEST12345698765432", "WEST");
+
+        testBranch("GB29NWBK60161331926819", "601613");
+        testBranch("FR1420041010050500013M02606", "01005");
+        testBranch("DE89370400440532013000", null);
+
+        int bankCount = args.length > 1 ? Integer.parseInt(args[1]) : 100_000;
+        int lookups = args.length > 2 ? Integer.parseInt(args[2]) : 5_000_000;
+        benchmark(bankCount, lookups);
+    }
+
+    private static void testResolve(BankDirectory directory, String iban, String expectedBankCode) {
+        BankInfo bank = IBANValidator.resolveBank(iban, directory);
+        boolean passed = expectedBankCode == null ? bank == null : bank != null && bank.getBankCode().equals(expectedBankCode);
+        System.out.println((passed ? "PASS" : "FAIL") + " - " + iban + " -> " + bank);
+    }
+
+    private static void testBranch(String iban, String expectedBranchCode) {
+        int offset = IBANValidator.branchCodeOffset(iban);
+        int length = IBANValidator.branchCodeLength(iban);
+        byte[] bytes = iban.getBytes(StandardCharsets.US_ASCII);
+        boolean sameForBytes = IBANValidator.branchCodeOffset(bytes, 0, bytes.length) == offset
+                && IBANValidator.branchCodeLength(bytes, 0, bytes.length) == (offset < 0 ? 0 : length);
+        boolean passed = sameForBytes && (expectedBranchCode == null ? offset < 0
+                : length == expectedBranchCode.length() && iban.regionMatches(offset, expectedBranchCode, 0, length));
+        System.out.println((passed ? "PASS" : "FAIL") + " - " + iban + " şube kodu -> "
+                + (offset < 0 ? "yok" : iban.substring(offset, offset + length)));
+    }
+
+    private static void benchmark(int bankCount, int lookups) {
+        Random random = new Random(42);
+        List<BankInfo> banks = new ArrayList<>(bankCount);
+        Map<String, BankInfo> byCode = new HashMap<>(bankCount * 2);
+        while (banks.size() < bankCount) {
+            String code = String.format("%08d", random.nextInt(100_000_000));
+            if (!byCode.containsKey(code)) {
+                BankInfo bank = new BankInfo("DE", code, "Banka " + code, "");
+                banks.add(bank);
+                byCode.put(code, bank);
+            }
+        }
+
+        long start = System.currentTimeMillis();
+        BankDirectory directory = BankDirectory.of(banks);
+        long buildMillis = System.currentTimeMillis() - start;
+
+        byte[][] ibans = new byte[1024][];
+        for (int i = 0; i < ibans.length; i++) {
+            String code = i % 8 == 7 ? String.format("%08d", random.nextInt(100_000_000)) : banks.get(random.nextInt(bankCount)).getBankCode();
+            ibans[i] = ("DE00" + code + "0532013000").getBytes(StandardCharsets.US_ASCII);
+        }
+
+        boolean correct = true;
+        for (BankInfo bank : banks) {
+            byte[] iban = ("DE00" + bank.getBankCode() + "0000000000").getBytes(StandardCharsets.US_ASCII);
+            correct &= directory.resolve(iban, 0, iban.length) == bank;
+        }
+
+        for (int round = 0; round < 3; round++) {
+            int found = 0;
+            start = System.nanoTime();
+            for (int i = 0; i < lookups; i++) {
+                byte[] iban = ibans[i & (ibans.length - 1)];
+                if (directory.resolve(iban, 0, iban.length) != null) {
+                    found++;
+                }
+            }
+            long perfectNanos = System.nanoTime() - start;
+
+            int mapFound = 0;
+            start = System.nanoTime();
+            for (int i = 0; i < lookups; i++) {
+                byte[] iban = ibans[i & (ibans.length - 1)];
+                if (byCode.get(new String(iban, 4, 8, StandardCharsets.US_ASCII)) != null) {
+                    mapFound++;
+                }
+            }
+            long mapNanos = System.nanoTime() - start;
+
+            if (round == 2) {
+                correct &= found == mapFound;
+                System.out.println(String.format("%s - %,d banka, kurulum %d ms, %.2f bit/anahtar hash; "
+                                + "mükemmel hash %.1f ns, String anahtarlı HashMap %.1f ns",
+                        correct ? "PASS" : "FAIL", bankCount, buildMillis, directory.getHashBitsPerKey(),
+                        perfectNanos / (double) lookups, mapNanos / (double) lookups));
+            }
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package beginnerLevel.problem02IBANValidator;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+public class BulkIBANDemo {
+    public static void main(String[] args) throws IOException {
+        int ibanCount = args.length > 0 ? Integer.parseInt(args[0]) : 2_000_000;
+        int maxWorkers = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+
+        Path file = Files.createTempFile("ibans", ".txt");
+        int expectedInvalid = writeIbans(file, ibanCount);
+        System.out.println(String.format("%,d IBAN, %d MB, %d hatalı satır üretildi",
+                ibanCount, Files.size(file) >> 20, expectedInvalid));
+
+        long start = System.currentTimeMillis();
+        long lineByLineValid = 0;
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.US_ASCII)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (IBANValidator.isValidIBAN(line)) {
+                    lineByLineValid++;
+                }
+            }
+        }
+        long lineByLineMillis = System.currentTimeMillis() - start;
+        System.out.println("Satır satır isValidIBAN: " + lineByLineMillis + " ms");
+
+        for (boolean swar : new boolean[] { false, true }) {
+            for (int workers = 1; workers <= maxWorkers; workers *= 2) {
+                BulkValidationReport report = new BulkIBANValidator(workers, swar).validateFile(file);
+                boolean correct = report.getValidCount() == lineByLineValid && report.getInvalidCount() == expectedInvalid;
+                System.out.println((correct ? "PASS" : "FAIL") + " - " + (swar ? "SWAR" : "skaler") + ", "
+                        + workers + " worker: " + report);
+                if (workers == 1 && !swar && !report.getInvalidLines().isEmpty()) {
+                    System.out.println("  İlk hatalı satır: " + report.getInvalidLines().get(0));
+                }
+            }
+        }
+        Files.deleteIfExists(file);
+    }
+
+    private static int writeIbans(Path file, int count) throws IOException {
+        Random random = new Random(42);
+        char[] iban = new char[26];
+        int invalid = 0;
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.US_ASCII)) {
+            for (int i = 0; i < count; i++) {
+                fillTurkishIBAN(random, iban);
+                if (i % 1000 == 999) {
+                    iban[25] = iban[25] == '9' ? '0' : (char) (iban[25] + 1);
+                    invalid++;
+                }
+                writer.write(iban);
+                writer.write('\n');
+            }
+        }
+        return invalid;
+    }
+
+    static void fillTurkishIBAN(Random random, char[] iban) {
+        iban[0] = 'T';
+        iban[1] = 'R';
+        for (int k = 4; k < 26; k++) {
+            iban[k] = (char) ('0' + random.nextInt(10));
+        }
+        int check = 98 - remainder(iban);
+        iban[2] = (char) ('0' + check / 10);
+        iban[3] = (char) ('0' + check % 10);
+    }
+
+    private static int remainder(char[] iban) {
+        long value = 0;
+        for (int k = 4; k < iban.length; k++) {
+            value = (value * 10 + (iban[k] - '0')) % 97;
+        }
+        value = (value * 100 + ('T' - 'A' + 10)) % 97;
+        value = (value * 100 + ('R' - 'A' + 10)) % 97;
+        return (int) (value * 100 % 97);
+    }
+}
@@ -0,0 +1,167 @@
+package beginnerLevel.problem02IBANValidator;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class BulkIBANValidator {
+    private static final int MAX_IBAN_LENGTH = 34;
+    private static final long MAX_CHUNK_SIZE = 1L << 30;
+    private static final int CHUNKS_PER_WORKER = 4;
+
+    private final int workers;
+    private final boolean swar;
+
+    public BulkIBANValidator(int workers) {
+        this(workers, false);
+    }
+
+    public BulkIBANValidator(int workers, boolean swar) {
+        if (workers <= 0) {
+            throw new IllegalArgumentException("Worker sayısı pozitif olmalı!");
+        }
+        this.workers = workers;
+        this.swar = swar;
+    }
+
+    public BulkValidationReport validateFile(Path file) throws IOException {
+        long start = System.currentTimeMillis();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long[] boundaries = splitAtLines(channel);
+            ExecutorService executor = Executors.newFixedThreadPool(workers);
+            try {
+                List<Future<ChunkResult>> futures = new ArrayList<>(boundaries.length - 1);
+                for (int i = 0; i + 1 < boundaries.length; i++) {
+                    long from = boundaries[i];
+                    long to = boundaries[i + 1];
+                    futures.add(executor.submit(() -> validateChunk(channel, from, to)));
+                }
+                return merge(futures, start);
+            } finally {
+                executor.shutdown();
+            }
+        }
+    }
+
+    private long[] splitAtLines(FileChannel channel) throws IOException {
+        long size = channel.size();
+        int chunks = (int) Math.max(workers * CHUNKS_PER_WORKER, (size + MAX_CHUNK_SIZE - 1) / MAX_CHUNK_SIZE * 2);
+        chunks = (int) Math.max(1, Math.min(chunks, size / 4096 + 1));
+
+        long[] boundaries = new long[chunks + 1];
+        ByteBuffer probe = ByteBuffer.allocate(256);
+        int count = 1;
+        for (int i = 1; i < chunks; i++) {
+            long position = Math.max(size * i / chunks, boundaries[count - 1]);
+            position = nextLineStart(channel, position, size, probe);
+            if (position > boundaries[count - 1] && position < size) {
+                boundaries[count++] = position;
+            }
+        }
+        boundaries[count++] = size;
+        return Arrays.copyOf(boundaries, count);
+    }
+
+    private static long nextLineStart(FileChannel channel, long position, long size, ByteBuffer probe) throws IOException {
+        while (position < size) {
+            probe.clear();
+            int read = channel.read(probe, position);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (probe.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+        return size;
+    }
+
+    private ChunkResult validateChunk(FileChannel channel, long from, long to) throws IOException {
+        ChunkResult result = new ChunkResult();
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, from, to - from);
+        byte[] line = new byte[MAX_IBAN_LENGTH];
+        int limit = buffer.limit();
+        int lineStart = 0;
+
+        while (lineStart < limit) {
+            int end = lineStart;
+            while (end < limit && buffer.get(end) != '\n') {
+                end++;
+            }
+            int length = end - lineStart;
+            if (length > 0 && buffer.get(end - 1) == '\r') {
+                length--;
+            }
+
+            result.lines++;
+            if (length > 0) {
+                IBANStatus status;
+                if (length > MAX_IBAN_LENGTH) {
+                    status = IBANStatus.INVALID_LENGTH;
+                } else {
+                    buffer.get(lineStart, line, 0, length);
+                    status = swar ? SwarIBANValidator.validate(line, 0, length) : IBANValidator.validate(line, 0, length);
+                }
+                result.counts[status.ordinal()]++;
+                if (status != IBANStatus.VALID) {
+                    result.invalid.add(new InvalidIBANLine(from + lineStart, result.lines, status));
+                }
+            }
+            lineStart = end + 1;
+        }
+        return result;
+    }
+
+    private static BulkValidationReport merge(List<Future<ChunkResult>> futures, long start) throws IOException {
+        Map<IBANStatus, Long> statusCounts = new EnumMap<>(IBANStatus.class);
+        List<InvalidIBANLine> invalidLines = new ArrayList<>();
+        long total = 0;
+        long lineBase = 0;
+        for (Future<ChunkResult> future : futures) {
+            ChunkResult chunk;
+            try {
+                chunk = future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Toplu doğrulama kesildi", e);
+            } catch (ExecutionException e) {
+                throw new IOException("Toplu doğrulama başarısız", e.getCause());
+            }
+
+            for (IBANStatus status : IBANStatus.values()) {
+                long count = chunk.counts[status.ordinal()];
+                if (count > 0) {
+                    statusCounts.merge(status, count, Long::sum);
+                    total += count;
+                }
+            }
+            for (InvalidIBANLine line : chunk.invalid) {
+                invalidLines.add(new InvalidIBANLine(line.getOffset(), lineBase + line.getLineNumber(), line.getStatus()));
+            }
+            lineBase += chunk.lines;
+        }
+        return new BulkValidationReport(total, statusCounts.getOrDefault(IBANStatus.VALID, 0L),
+                statusCounts, invalidLines, System.currentTimeMillis() - start);
+    }
+
+    private static class ChunkResult {
+        private final long[] counts = new long[IBANStatus.values().length];
+        private final List<InvalidIBANLine> invalid = new ArrayList<>();
+        private long lines;
+    }
+}
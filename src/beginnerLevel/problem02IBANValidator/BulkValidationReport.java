@@ -0,0 +1,53 @@
+package beginnerLevel.problem02IBANValidator;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+public class BulkValidationReport {
+    private final long totalCount;
+    private final long validCount;
+    private final Map<IBANStatus, Long> statusCounts;
+    private final List<InvalidIBANLine> invalidLines;
+    private final long elapsedMillis;
+
+    public BulkValidationReport(long totalCount, long validCount, Map<IBANStatus, Long> statusCounts,
+                                List<InvalidIBANLine> invalidLines, long elapsedMillis) {
+        this.totalCount = totalCount;
+        this.validCount = validCount;
+        this.statusCounts = Collections.unmodifiableMap(new EnumMap<>(statusCounts));
+        this.invalidLines = Collections.unmodifiableList(invalidLines);
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    public long getValidCount() {
+        return validCount;
+    }
+
+    public long getInvalidCount() {
+        return totalCount - validCount;
+    }
+
+    public Map<IBANStatus, Long> getStatusCounts() {
+        return statusCounts;
+    }
+
+    public List<InvalidIBANLine> getInvalidLines() {
+        return invalidLines;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Toplam: %,d  Geçerli: %,d  Geçersiz: %,d %s  Süre: %d ms",
+                totalCount, validCount, getInvalidCount(), statusCounts, elapsedMillis);
+    }
+}
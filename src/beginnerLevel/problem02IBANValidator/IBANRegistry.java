@@ -0,0 +1,149 @@
+package beginnerLevel.problem02IBANValidator;
+
+public final class IBANRegistry {
+    static final byte DIGIT = 1;
+    static final byte LETTER = 2;
+    static final byte ALPHANUMERIC = 3;
+
+    private static final String[] COUNTRIES = {
+            "AD24 4n4n12c", "AE23 3n16n", "AL28 8n16c", "AT20 5n11n", "AZ28 4a20c",
+            "BA20 3n3n8n2n", "BE16 3n7n2n", "BG22 4a4n2n8c", "BH22 4a14c", "BI27 5n5n11n2n",
+            "BR29 8n5n10n1a1c", "BY28 4c4n16c", "CH21 5n12c", "CR22 4n14n", "CY28 3n5n16c",
+            "CZ24 4n6n10n", "DE22 8n10n", "DJ27 5n5n11n2n", "DK18 4n9n1n", "DO28 4c20n",
+            "EE20 2n2n11n1n", "EG29 4n4n17n", "ES24 4n4n1n1n10n", "FI18 3n11n", "FK18 2a12n",
+            "FO18 4n9n1n", "FR27 5n5n11c2n", "GB22 4a6n8n", "GE22 2a16n", "GI23 4a15c",
+            "GL18 4n9n1n", "GR27 3n4n16c", "GT28 4c20c", "HR21 7n10n", "HU28 3n4n1n15n1n",
+            "IE22 4a6n8n", "IL23 3n3n13n", "IQ23 4a3n12n", "IS26 4n2n6n10n", "IT27 1a5n5n12c",
+            "JO30 4a4n18c", "KW30 4a22c", "KZ20 3n13c", "LB28 4n20c", "LC32 4a24c",
+            "LI21 5n12c", "LT20 5n11n", "LU20 3n13c", "LV21 4a13c", "LY25 3n3n15n",
+            "MC27 5n5n11c2n", "MD24 2c18c", "ME22 3n13n2n", "MK19 3n10c2n", "MN20 4n12n",
+            "MR27 5n5n11n2n", "MT31 4a5n18c", "MU30 4a2n2n12n3n3a", "NI28 4a20n", "NL18 4a10n",
+            "NO15 4n6n1n", "OM23 3n16c", "PK24 4a16c", "PL28 8n16n", "PS29 4a21c",
+            "PT25 4n4n11n2n", "QA29 4a21c", "RO24 4a16c", "RS22 3n13n2n", "RU33 9n5n15c",
+            "SA24 2n18c", "SC31 4a2n2n16n3a", "SD18 2n12n", "SE24 3n16n1n", "SI19 5n8n2n",
+            "SK24 4n6n10n", "SM27 1a5n5n12c", "SO23 4n3n12n", "ST25 4n4n11n2n", "SV28 4a20n",
+            "TL23 3n14n2n", "TN24 2n3n13n2n", "TR26 5n1n16c", "UA29 6n19c", "VA22 3n15n",
+            "VG24 4a16n", "XK20 4n10n2n", "YE30 4a4n18c"
+    };
+
+    private static final String[] BANK_CODES = {
+            "AT 0,5", "BE 0,3", "CH 0,5", "DE 0,8", "ES 0,4 4,4", "FR 0,5 5,5", "GB 0,4 4,6",
+            "IE 0,4 4,6", "IT 1,5 6,5", "NL 0,4", "PT 0,4 4,4", "TR 0,5"
+    };
+
+    private static final byte[] LENGTHS = new byte[26 * 26];
+    private static final byte[] BANK_OFFSETS = new byte[26 * 26];
+    private static final byte[] BANK_LENGTHS = new byte[26 * 26];
+    private static final byte[] BRANCH_OFFSETS = new byte[26 * 26];
+    private static final byte[] BRANCH_LENGTHS = new byte[26 * 26];
+    private static final byte[][] BBAN_FORMATS = new byte[26 * 26][];
+
+    static {
+        for (String definition : COUNTRIES) {
+            int slot = slotOf(definition.charAt(0), definition.charAt(1));
+            int length = Integer.parseInt(definition.substring(2, 4));
+            byte[] format = compile(definition.substring(5));
+            if (format.length != length - 4) {
+                throw new IllegalStateException("Hatalı IBAN tanımı: " + definition);
+            }
+            LENGTHS[slot] = (byte) length;
+            BBAN_FORMATS[slot] = format;
+        }
+
+        for (String definition : BANK_CODES) {
+            int slot = slotOf(definition.charAt(0), definition.charAt(1));
+            String[] ranges = definition.substring(3).split(" ");
+            int[] bank = parseRange(ranges[0]);
+            if (BBAN_FORMATS[slot] == null || bank[0] + bank[1] > BBAN_FORMATS[slot].length) {
+                throw new IllegalStateException("Hatalı banka kodu tanımı: " + definition);
+            }
+            BANK_OFFSETS[slot] = (byte) bank[0];
+            BANK_LENGTHS[slot] = (byte) bank[1];
+            if (ranges.length > 1) {
+                int[] branch = parseRange(ranges[1]);
+                BRANCH_OFFSETS[slot] = (byte) branch[0];
+                BRANCH_LENGTHS[slot] = (byte) branch[1];
+            }
+        }
+    }
+
+    private IBANRegistry() {
+    }
+
+    public static boolean isSupported(char first, char second) {
+        return lengthOf(first, second) > 0;
+    }
+
+    public static int lengthOf(char first, char second) {
+        int slot = slotOf(first, second);
+        return slot < 0 ? -1 : LENGTHS[slot];
+    }
+
+    public static int bankCodeOffset(char first, char second) {
+        int slot = slotOf(first, second);
+        return slot < 0 || BANK_LENGTHS[slot] == 0 ? -1 : 4 + BANK_OFFSETS[slot];
+    }
+
+    public static int bankCodeLength(char first, char second) {
+        int slot = slotOf(first, second);
+        return slot < 0 ? 0 : BANK_LENGTHS[slot];
+    }
+
+    public static int branchCodeOffset(char first, char second) {
+        int slot = slotOf(first, second);
+        return slot < 0 || BRANCH_LENGTHS[slot] == 0 ? -1 : 4 + BRANCH_OFFSETS[slot];
+    }
+
+    public static int branchCodeLength(char first, char second) {
+        int slot = slotOf(first, second);
+        return slot < 0 ? 0 : BRANCH_LENGTHS[slot];
+    }
+
+    static byte[] formatOf(char first, char second) {
+        int slot = slotOf(first, second);
+        return slot < 0 ? null : BBAN_FORMATS[slot];
+    }
+
+    static int slotOf(char first, char second) {
+        int a = first - 'A';
+        int b = second - 'A';
+        if (a < 0 || a >= 26 || b < 0 || b >= 26) {
+            return -1;
+        }
+        return a * 26 + b;
+    }
+
+    private static int[] parseRange(String range) {
+        int comma = range.indexOf(',');
+        return new int[] { Integer.parseInt(range.substring(0, comma)), Integer.parseInt(range.substring(comma + 1)) };
+    }
+
+    private static byte[] compile(String pattern) {
+        int total = 0;
+        for (int i = 0, count = 0; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            if (Character.isDigit(c)) {
+                count = count * 10 + (c - '0');
+            } else {
+                total += count;
+                count = 0;
+            }
+        }
+
+        byte[] format = new byte[total];
+        int position = 0;
+        for (int i = 0, count = 0; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            if (Character.isDigit(c)) {
+                count = count * 10 + (c - '0');
+                continue;
+            }
+            byte type = c == 'n' ? DIGIT : c == 'a' ? LETTER : ALPHANUMERIC;
+            for (int k = 0; k < count; k++) {
+                format[position++] = type;
+            }
+            count = 0;
+        }
+        return format;
+    }
+}
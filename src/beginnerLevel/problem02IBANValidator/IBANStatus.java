@@ -0,0 +1,11 @@
+package beginnerLevel.problem02IBANValidator;
+
+public enum IBANStatus {
+    VALID,
+    EMPTY,
+    UNKNOWN_COUNTRY,
+    INVALID_LENGTH,
+    INVALID_CHARACTER,
+    INVALID_FORMAT,
+    INVALID_CHECKSUM
+}
@@ -1,25 +1,136 @@
 package beginnerLevel.problem02IBANValidator;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
 public class IBANValidator {
 
-    private static final int IBAN_LENGTH = 26;
-    private static final String COUNTRY_CODE = "TR";
+    private static final long MOD_97_THRESHOLD = 100_000_000_000_000L;
 
     public static boolean isValidIBAN(String iban) {
-        if (iban == null || iban.isEmpty()) {
-            return false;
+        return validate(iban) == IBANStatus.VALID;
+    }
+
+    public static boolean isValid(CharSequence iban) {
+        return validate(iban) == IBANStatus.VALID;
+    }
+
+    public static boolean isValid(byte[] iban, int offset, int length) {
+        return validate(iban, offset, length) == IBANStatus.VALID;
+    }
+
+    public static BankInfo resolveBank(CharSequence iban, BankDirectory directory) {
+        return validate(iban) == IBANStatus.VALID ? directory.resolve(iban) : null;
+    }
+
+    public static BankInfo resolveBank(byte[] iban, int offset, int length, BankDirectory directory) {
+        return validate(iban, offset, length) == IBANStatus.VALID ? directory.resolve(iban, offset, length) : null;
+    }
+
+    public static int branchCodeOffset(CharSequence iban) {
+        return iban == null || iban.length() < 2 ? -1 : IBANRegistry.branchCodeOffset(iban.charAt(0), iban.charAt(1));
+    }
+
+    public static int branchCodeLength(CharSequence iban) {
+        return iban == null || iban.length() < 2 ? 0 : IBANRegistry.branchCodeLength(iban.charAt(0), iban.charAt(1));
+    }
+
+    public static int branchCodeOffset(byte[] iban, int offset, int length) {
+        if (iban == null) {
+            return -1;
+        }
+        Objects.checkFromIndexSize(offset, length, iban.length);
+        if (length < 2) {
+            return -1;
+        }
+        int branchOffset = IBANRegistry.branchCodeOffset((char) (iban[offset] & 0xFF), (char) (iban[offset + 1] & 0xFF));
+        return branchOffset < 0 ? -1 : offset + branchOffset;
+    }
+
+    public static int branchCodeLength(byte[] iban, int offset, int length) {
+        if (iban == null) {
+            return 0;
+        }
+        Objects.checkFromIndexSize(offset, length, iban.length);
+        return length < 2 ? 0 : IBANRegistry.branchCodeLength((char) (iban[offset] & 0xFF), (char) (iban[offset + 1] & 0xFF));
+    }
+
+    public static IBANStatus validate(CharSequence iban) {
+        if (iban == null || iban.length() == 0) {
+            return IBANStatus.EMPTY;
         }
+        return validate(iban, null, 0, iban.length());
+    }
 
-        if (iban.length() != IBAN_LENGTH) {
-            return false;
+    public static IBANStatus validate(byte[] iban, int offset, int length) {
+        if (iban == null) {
+            return IBANStatus.EMPTY;
+        }
+        Objects.checkFromIndexSize(offset, length, iban.length);
+        if (length == 0) {
+            return IBANStatus.EMPTY;
         }
+        return validate(null, iban, offset, length);
+    }
 
-        if (!iban.startsWith(COUNTRY_CODE)) {
-            return false;
+    private static IBANStatus validate(CharSequence chars, byte[] bytes, int offset, int length) {
+        if (length < 4) {
+            return IBANStatus.INVALID_LENGTH;
         }
 
-        String numericPart = iban.substring(2);
-        return numericPart.matches("\\d{24}");
+        char first = charAt(chars, bytes, offset);
+        char second = charAt(chars, bytes, offset + 1);
+        byte[] format = IBANRegistry.formatOf(first, second);
+        if (format == null) {
+            return IBANStatus.UNKNOWN_COUNTRY;
+        }
+        if (length != format.length + 4) {
+            return IBANStatus.INVALID_LENGTH;
+        }
+
+        char check1 = charAt(chars, bytes, offset + 2);
+        char check2 = charAt(chars, bytes, offset + 3);
+        if (!isDigit(check1) || !isDigit(check2)) {
+            return IBANStatus.INVALID_CHARACTER;
+        }
+
+        long remainder = 0;
+        boolean formatMatches = true;
+        for (int i = 0; i < format.length; i++) {
+            char c = charAt(chars, bytes, offset + 4 + i);
+            if (isDigit(c)) {
+                remainder = remainder * 10 + (c - '0');
+                formatMatches &= format[i] != IBANRegistry.LETTER;
+            } else if (isUpperLetter(c)) {
+                remainder = remainder * 100 + (c - 'A' + 10);
+                formatMatches &= format[i] != IBANRegistry.DIGIT;
+            } else {
+                return IBANStatus.INVALID_CHARACTER;
+            }
+            if (remainder >= MOD_97_THRESHOLD) {
+                remainder %= 97;
+            }
+        }
+        if (!formatMatches) {
+            return IBANStatus.INVALID_FORMAT;
+        }
+
+        remainder = remainder * 100 + (first - 'A' + 10);
+        remainder = (remainder % 97) * 100 + (second - 'A' + 10);
+        remainder = remainder * 100 + (check1 - '0') * 10 + (check2 - '0');
+        return remainder % 97 == 1 ? IBANStatus.VALID : IBANStatus.INVALID_CHECKSUM;
+    }
+
+    private static char charAt(CharSequence chars, byte[] bytes, int index) {
+        return chars != null ? chars.charAt(index) : (char) (bytes[index] & 0xFF);
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isUpperLetter(char c) {
+        return c >= 'A' && c <= 'Z';
     }
 
     public static void main(String[] args) {
@@ -29,11 +140,37 @@ public class IBANValidator {
         testIBAN("TR33000610051978645784132A", false);
         testIBAN("TR 330006100519786457841326", false);
         testIBAN(null, false);
+        testIBAN("", false);
+        testIBAN("TR330006100519786457841327", false);
+        testIBAN("tr330006100519786457841326", false);
+        testIBAN("DE89370400440532013000", true);
+        testIBAN("GB82WEST12345698765432", true);
+        testIBAN("GB25123412345698765432", false);
+        testIBAN("NO9386011117947", true);
+        testIBAN("MT84MALT011000012345MTLCAST001S", true);
+        testIBAN("VA59001123000012345678", true);
+        testIBAN("BY13NBRB3600900000002Z00AB00", true);
+        testIBAN("SC18SSCB11010000000000001497USD", true);
+        testIBAN("LY83002048000020100120361", true);
+        testIBAN("ST68000100010051845310112", true);
+        testIBAN("SV62CENR00000000000000700025", true);
+        testIBAN("RU0204452560040702810412345678901", true);
+
+        byte[] bytes = "xxTR330006100519786457841326xx".getBytes(StandardCharsets.US_ASCII);
+        boolean result = isValid(bytes, 2, 26);
+        System.out.println((result ? "PASS" : "FAIL") + " - byte[] TR330006100519786457841326 -> " + result);
+
+        try {
+            isValid(bytes, 20, 26);
+            System.out.println("FAIL - byte[] aralık dışı offset kabul edildi");
+        } catch (IndexOutOfBoundsException e) {
+            System.out.println("PASS - byte[] aralık dışı offset reddedildi");
+        }
     }
 
     private static void testIBAN(String iban, boolean expected) {
         boolean result = isValidIBAN(iban);
         String status = result == expected ? "PASS" : "FAIL";
-        System.out.println(status + " - " + iban + " -> " + result);
+        System.out.println(status + " - " + iban + " -> " + result + " (" + validate(iban) + ")");
     }
 }
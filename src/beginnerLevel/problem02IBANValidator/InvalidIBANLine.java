@@ -0,0 +1,30 @@
+package beginnerLevel.problem02IBANValidator;
+
+public class InvalidIBANLine {
+    private final long offset;
+    private final long lineNumber;
+    private final IBANStatus status;
+
+    public InvalidIBANLine(long offset, long lineNumber, IBANStatus status) {
+        this.offset = offset;
+        this.lineNumber = lineNumber;
+        this.status = status;
+    }
+
+    public long getOffset() {
+        return offset;
+    }
+
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    public IBANStatus getStatus() {
+        return status;
+    }
+
+    @Override
+    public String toString() {
+        return "Satır " + lineNumber + " (bayt " + offset + "): " + status;
+    }
+}
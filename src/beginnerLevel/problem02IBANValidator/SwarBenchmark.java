@@ -0,0 +1,58 @@
+package beginnerLevel.problem02IBANValidator;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+public class SwarBenchmark {
+    private static final String[] SAMPLES = {
+            "TR330006100519786457841326", "DE89370400440532013000", "GB82WEST12345698765432",
+            "MT84MALT011000012345MTLCAST001S", "TR330006100519786457841327", "NO9386011117947"
+    };
+
+    public static void main(String[] args) {
+        int ibanCount = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+
+        Random random = new Random(42);
+        int[] offsets = new int[ibanCount];
+        int[] lengths = new int[ibanCount];
+        StringBuilder builder = new StringBuilder(ibanCount * 26);
+        char[] iban = new char[26];
+        for (int i = 0; i < ibanCount; i++) {
+            offsets[i] = builder.length();
+            if (i % 20 == 19) {
+                String sample = SAMPLES[random.nextInt(SAMPLES.length)];
+                lengths[i] = sample.length();
+                builder.append(sample);
+            } else {
+                BulkIBANDemo.fillTurkishIBAN(random, iban);
+                lengths[i] = iban.length;
+                builder.append(iban);
+            }
+        }
+        byte[] data = builder.toString().getBytes(StandardCharsets.US_ASCII);
+        IBANStatus[] results = new IBANStatus[ibanCount];
+
+        for (int round = 0; round < rounds; round++) {
+            long start = System.nanoTime();
+            int scalarValid = 0;
+            for (int i = 0; i < ibanCount; i++) {
+                results[i] = IBANValidator.validate(data, offsets[i], lengths[i]);
+                if (results[i] == IBANStatus.VALID) {
+                    scalarValid++;
+                }
+            }
+            long scalarNanos = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            int swarValid = SwarIBANValidator.validateBatch(data, offsets, lengths, ibanCount, results);
+            long swarNanos = System.nanoTime() - start;
+
+            if (round == rounds - 1 || round == 0) {
+                System.out.println(String.format("%s - tur %d: skaler %.1f M IBAN/sn, SWAR %.1f M IBAN/sn (%.2fx)",
+                        scalarValid == swarValid ? "PASS" : "FAIL", round + 1,
+                        ibanCount * 1e3 / scalarNanos, ibanCount * 1e3 / swarNanos, scalarNanos / (double) swarNanos));
+            }
+        }
+    }
+}
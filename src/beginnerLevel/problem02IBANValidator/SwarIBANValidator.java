@@ -0,0 +1,154 @@
+package beginnerLevel.problem02IBANValidator;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+public final class SwarIBANValidator {
+    private static final VarHandle LONG_VIEW = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private static final long ONES = 0x0101010101010101L;
+    private static final long HIGH_BITS = 0x8080808080808080L;
+    private static final long ZEROS = 0x3030303030303030L;
+    private static final int MAX_WORDS = 4;
+    private static final long MOD_97_THRESHOLD = 100_000_000_000_000L;
+    private static final long[] POWERS_OF_TEN = { 1, 10, 100, 1_000, 10_000, 100_000, 1_000_000, 10_000_000, 100_000_000 };
+
+    private static final long[][] DIGIT_MASKS = new long[26 * 26][];
+    private static final long[][] LETTER_MASKS = new long[26 * 26][];
+
+    static {
+        for (int slot = 0; slot < 26 * 26; slot++) {
+            byte[] format = IBANRegistry.formatOf((char) ('A' + slot / 26), (char) ('A' + slot % 26));
+            if (format == null) {
+                continue;
+            }
+            long[] digits = new long[MAX_WORDS];
+            long[] letters = new long[MAX_WORDS];
+            for (int i = 0; i < format.length; i++) {
+                long bit = 0x80L << ((i & 7) * 8);
+                if (format[i] == IBANRegistry.DIGIT) {
+                    digits[i >>> 3] |= bit;
+                } else if (format[i] == IBANRegistry.LETTER) {
+                    letters[i >>> 3] |= bit;
+                }
+            }
+            DIGIT_MASKS[slot] = digits;
+            LETTER_MASKS[slot] = letters;
+        }
+    }
+
+    private SwarIBANValidator() {
+    }
+
+    public static boolean isValid(byte[] iban, int offset, int length) {
+        return fastCheck(iban, offset, length) || IBANValidator.validate(iban, offset, length) == IBANStatus.VALID;
+    }
+
+    public static IBANStatus validate(byte[] iban, int offset, int length) {
+        return fastCheck(iban, offset, length) ? IBANStatus.VALID : IBANValidator.validate(iban, offset, length);
+    }
+
+    public static int validateBatch(byte[] data, int[] offsets, int[] lengths, int count, IBANStatus[] results) {
+        int valid = 0;
+        for (int i = 0; i < count; i++) {
+            IBANStatus status = validate(data, offsets[i], lengths[i]);
+            results[i] = status;
+            if (status == IBANStatus.VALID) {
+                valid++;
+            }
+        }
+        return valid;
+    }
+
+    private static boolean fastCheck(byte[] iban, int offset, int length) {
+        if (iban == null) {
+            return false;
+        }
+        Objects.checkFromIndexSize(offset, length, iban.length);
+        if (length < 4) {
+            return false;
+        }
+        int slot = IBANRegistry.slotOf((char) iban[offset], (char) iban[offset + 1]);
+        if (slot < 0 || DIGIT_MASKS[slot] == null || IBANRegistry.lengthOf((char) iban[offset], (char) iban[offset + 1]) != length) {
+            return false;
+        }
+        int check1 = iban[offset + 2] - '0';
+        int check2 = iban[offset + 3] - '0';
+        if (check1 < 0 || check1 > 9 || check2 < 0 || check2 > 9) {
+            return false;
+        }
+
+        long[] digitMasks = DIGIT_MASKS[slot];
+        long[] letterMasks = LETTER_MASKS[slot];
+        int bbanLength = length - 4;
+        if (bbanLength < 8) {
+            return false;
+        }
+
+        int position = offset + 4;
+        long remainder = 0;
+        int word = 0;
+        for (; (word + 1) * 8 <= bbanLength; word++, position += 8) {
+            long chunk = (long) LONG_VIEW.get(iban, position);
+            remainder = appendWord(remainder, chunk, 0, digitMasks[word], letterMasks[word]);
+            if (remainder < 0) {
+                return false;
+            }
+        }
+
+        int tail = bbanLength - word * 8;
+        if (tail > 0) {
+            int skip = 8 - tail;
+            long processed = (1L << (skip * 8)) - 1;
+            long chunk = ((long) LONG_VIEW.get(iban, offset + length - 8) & ~processed) | (ZEROS & processed);
+            remainder = appendWord(remainder, chunk, skip, digitMasks[word] << (skip * 8), letterMasks[word] << (skip * 8));
+            if (remainder < 0) {
+                return false;
+            }
+        }
+
+        remainder = append(remainder % 97, iban[offset]) % 97;
+        remainder = append(remainder, iban[offset + 1]);
+        remainder = remainder * 100 + check1 * 10 + check2;
+        return remainder % 97 == 1;
+    }
+
+    private static long appendWord(long remainder, long chunk, int skip, long digitMask, long letterMask) {
+        long digits = inRange(chunk, '0', '9');
+        long letters = inRange(chunk, 'A', 'Z');
+        if ((digits | letters) != HIGH_BITS || (digitMask & ~digits) != 0 || (letterMask & ~letters) != 0) {
+            return -1;
+        }
+
+        if (digits == HIGH_BITS) {
+            return (remainder % 97) * POWERS_OF_TEN[8 - skip] + parseEightDigits(chunk);
+        }
+        for (int i = skip; i < 8; i++) {
+            remainder = reduce(append(remainder, (byte) (chunk >>> (i * 8))));
+        }
+        return remainder;
+    }
+
+    private static long inRange(long chunk, char low, char high) {
+        long aboveLow = chunk + (0x80 - low) * ONES;
+        long aboveHigh = chunk + (0x80 - high - 1) * ONES;
+        return aboveLow & ~aboveHigh & ~chunk & HIGH_BITS;
+    }
+
+    private static long parseEightDigits(long chunk) {
+        long value = chunk - ZEROS;
+        value = (value * 10 + (value >>> 8)) & 0x00FF00FF00FF00FFL;
+        value = (value * 100 + (value >>> 16)) & 0x0000FFFF0000FFFFL;
+        return (value * 10000 + (value >>> 32)) & 0xFFFFFFFFL;
+    }
+
+    private static long reduce(long remainder) {
+        return remainder >= MOD_97_THRESHOLD ? remainder % 97 : remainder;
+    }
+
+    private static long append(long remainder, byte c) {
+        return c <= '9' ? remainder * 10 + (c - '0') : remainder * 100 + (c - 'A' + 10);
+    }
+}
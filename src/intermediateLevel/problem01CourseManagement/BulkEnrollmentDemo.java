@@ -0,0 +1,168 @@
+package intermediateLevel.problem01CourseManagement;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.time.DayOfWeek;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class BulkEnrollmentDemo {
+    public static void main(String[] args) throws IOException {
+        int studentCount = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        int courseCount = args.length > 1 ? Integer.parseInt(args[1]) : 2_000;
+        int rowCount = args.length > 2 ? Integer.parseInt(args[2]) : 500_000;
+
+        Path csvFile = Files.createTempFile("enrollments", ".csv");
+        List<String[]> rows = new ArrayList<>(rowCount);
+        Random random = new Random(42);
+        try (BufferedWriter writer = Files.newBufferedWriter(csvFile, StandardCharsets.UTF_8)) {
+            writer.write("studentId,courseId");
+            writer.newLine();
+            for (int i = 0; i < rowCount; i++) {
+                String[] row = { String.valueOf(random.nextInt(studentCount + 10)), "C" + random.nextInt(courseCount + 5) };
+                if (i % 10_000 == 0) {
+                    row = new String[] { "bozuk" + i, row[1] };
+                }
+                rows.add(row);
+                writer.write(row[0] + "," + row[1]);
+                writer.newLine();
+            }
+        }
+
+        CourseManager bulkManager = setup(studentCount, courseCount);
+        BulkEnrollmentReport report = new BulkEnrollmentLoader(bulkManager).load(csvFile);
+
+        CourseManager singleManager = setup(studentCount, courseCount);
+        PrintStream console = System.out;
+        Path logFile = Files.createTempFile("enrollments", ".log");
+        long start = System.currentTimeMillis();
+        try (PrintStream log = new PrintStream(Files.newOutputStream(logFile), false, StandardCharsets.UTF_8)) {
+            System.setOut(log);
+            for (String[] row : rows) {
+                try {
+                    singleManager.enrollStudent(singleManager.getStudent(Integer.parseInt(row[0])), singleManager.getCourse(row[1]));
+                } catch (NumberFormatException e) {
+                    continue;
+                }
+            }
+        } finally {
+            System.setOut(console);
+        }
+        long singleMillis = System.currentTimeMillis() - start;
+
+        System.out.println(report);
+        for (int i = 0; i < Math.min(5, report.getRejectedRows().size()); i++) {
+            System.out.println("  " + report.getRejectedRows().get(i));
+        }
+        System.out.println("Tekil enrollStudent döngüsü (çıktı log dosyasına): " + singleMillis + " ms");
+        System.out.printf("Hızlanma: %.1fx%n", singleMillis / (double) Math.max(1, report.getElapsedMillis()));
+
+        long singleSeats = 0;
+        long singleWaitlisted = 0;
+        for (Course course : singleManager.getCourses()) {
+            singleSeats += course.getCurrentEnrollmentCount();
+            singleWaitlisted += singleManager.getWaitlistSize(course);
+        }
+        System.out.println((singleSeats == report.getEnrolledCount() && singleWaitlisted == report.getWaitlistedCount() ? "PASS" : "FAIL")
+                + ": toplu ve tekil kayıt aynı sonucu verir (" + singleSeats + " kayıt, " + singleWaitlisted + " bekleme)");
+
+        long bulkSeats = 0;
+        for (Course course : bulkManager.getCourses()) {
+            if (course.getCurrentEnrollmentCount() > course.getMaxCapacity()
+                    || course.getCurrentEnrollmentCount() != course.getEnrolledStudents().size()) {
+                System.out.println("FAIL: " + course.getCourseId() + " kapasite tutarsız");
+                return;
+            }
+            bulkSeats += course.getCurrentEnrollmentCount();
+        }
+        System.out.println((bulkSeats == report.getEnrolledCount() ? "PASS" : "FAIL")
+                + ": " + bulkSeats + " koltuk dolu, rapor " + report.getEnrolledCount() + " kayıt diyor");
+        Files.deleteIfExists(csvFile);
+        Files.deleteIfExists(logFile);
+
+        checkConflictOrderAndWaitlist();
+    }
+
+    private static void checkConflictOrderAndWaitlist() throws IOException {
+        CourseManager manager = setup(10, 0);
+        Course morningA = new Course("A", "Sabah A", "Hoca", 5);
+        Course morningB = new Course("B", "Sabah B", "Hoca", 5);
+        Course small = new Course("K", "Küçük Kurs", "Hoca", 1);
+        morningA.addMeetingTime(DayOfWeek.MONDAY, 9, 11);
+        morningB.addMeetingTime(DayOfWeek.MONDAY, 10, 12);
+        manager.addCourse(morningA);
+        manager.addCourse(morningB);
+        manager.addCourse(small);
+
+        PrintStream console = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        Path csvFile = Files.createTempFile("enrollments", ".csv");
+        BulkEnrollmentReport report;
+        try {
+            manager.tryEnroll(manager.getStudent(0), small);
+            manager.tryEnroll(manager.getStudent(1), small);
+            Files.write(csvFile, List.of("studentId,courseId", "2,B", "3,A", "2,A", "3,B", "4,K", "5,K"), StandardCharsets.UTF_8);
+            report = new BulkEnrollmentLoader(manager).load(csvFile);
+            manager.dropStudent(manager.getStudent(0), small);
+        } finally {
+            System.setOut(console);
+            Files.deleteIfExists(csvFile);
+        }
+
+        boolean earlierLineWins = morningB.hasStudent(manager.getStudent(2)) && !morningA.hasStudent(manager.getStudent(2))
+                && morningA.hasStudent(manager.getStudent(3)) && !morningB.hasStudent(manager.getStudent(3));
+        System.out.println((earlierLineWins ? "PASS" : "FAIL") + ": çakışan kurslarda dosyada önce gelen satır kazanır");
+
+        boolean waitlistHonoured = report.getWaitlistedCount() == 2 && small.hasStudent(manager.getStudent(1))
+                && manager.getWaitlistPosition(manager.getStudent(4), small) == 1
+                && manager.getWaitlistPosition(manager.getStudent(5), small) == 2;
+        System.out.println((waitlistHonoured ? "PASS" : "FAIL") + ": bekleme listesi olan kursta toplu satırlar sıranın arkasına eklenir");
+
+        checkFullCourseDoesNotBlockLaterRow();
+    }
+
+    private static void checkFullCourseDoesNotBlockLaterRow() throws IOException {
+        CourseManager manager = setup(10, 0);
+        Course full = new Course("D", "Dolu Sabah", "Hoca", 1);
+        Course open = new Course("E", "Açık Sabah", "Hoca", 5);
+        full.addMeetingTime(DayOfWeek.TUESDAY, 9, 11);
+        open.addMeetingTime(DayOfWeek.TUESDAY, 10, 12);
+        manager.addCourse(full);
+        manager.addCourse(open);
+
+        PrintStream console = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        Path csvFile = Files.createTempFile("enrollments", ".csv");
+        BulkEnrollmentReport report;
+        try {
+            Files.write(csvFile, List.of("studentId,courseId", "6,D", "7,D", "7,E"), StandardCharsets.UTF_8);
+            report = new BulkEnrollmentLoader(manager).load(csvFile);
+        } finally {
+            System.setOut(console);
+            Files.deleteIfExists(csvFile);
+        }
+
+        Student student = manager.getStudent(7);
+        boolean sameAsSingle = full.hasStudent(manager.getStudent(6)) && open.hasStudent(student)
+                && manager.getWaitlistPosition(student, full) == 1
+                && report.getEnrolledCount() == 2 && report.getWaitlistedCount() == 1 && report.getRejectedRows().isEmpty();
+        System.out.println((sameAsSingle ? "PASS" : "FAIL") + ": dolu kurs bekleme listesine düşer, sonraki çakışan satırı engellemez");
+    }
+
+    private static CourseManager setup(int studentCount, int courseCount) {
+        CourseManager manager = new CourseManager();
+        for (int i = 0; i < studentCount; i++) {
+            manager.addStudent(new Student(i, "Öğrenci " + i, "ogrenci" + i + "@mail.com"));
+        }
+        for (int i = 0; i < courseCount; i++) {
+            manager.addCourse(new Course("C" + i, "Kurs " + i, "Hoca " + (i % 50), 50 + i % 300));
+        }
+        return manager;
+    }
+}
@@ -0,0 +1,245 @@
+package intermediateLevel.problem01CourseManagement;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class BulkEnrollmentLoader {
+    private static final int CHUNK_LINES = 16_384;
+
+    private final CourseManager manager;
+
+    public BulkEnrollmentLoader(CourseManager manager) {
+        this.manager = manager;
+    }
+
+    public BulkEnrollmentReport load(Path csvFile) throws IOException {
+        long start = System.currentTimeMillis();
+        List<RejectedRow> rejected = Collections.synchronizedList(new ArrayList<>());
+        Map<Course, Partition> partitions = new HashMap<>();
+        Map<Student, Plan> plans = new HashMap<>();
+        Deque<CompletableFuture<List<Row>>> inFlight = new ArrayDeque<>();
+        int maxInFlight = 2 * ForkJoinPool.getCommonPoolParallelism() + 1;
+        long lineNumber = 0;
+
+        try (BufferedReader reader = Files.newBufferedReader(csvFile, StandardCharsets.UTF_8)) {
+            List<String> chunk = new ArrayList<>(CHUNK_LINES);
+            long chunkStart = 1;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                chunk.add(line);
+                if (chunk.size() == CHUNK_LINES) {
+                    inFlight.addLast(parseAsync(chunk, chunkStart, rejected));
+                    chunk = new ArrayList<>(CHUNK_LINES);
+                    chunkStart = lineNumber + 1;
+                    if (inFlight.size() >= maxInFlight) {
+                        plan(inFlight.removeFirst().join(), partitions, plans, rejected);
+                    }
+                }
+            }
+            if (!chunk.isEmpty()) {
+                inFlight.addLast(parseAsync(chunk, chunkStart, rejected));
+            }
+        }
+        while (!inFlight.isEmpty()) {
+            plan(inFlight.removeFirst().join(), partitions, plans, rejected);
+        }
+
+        AtomicLong enrolled = new AtomicLong();
+        AtomicLong waitlisted = new AtomicLong();
+        partitions.entrySet().parallelStream().forEach(entry ->
+                enrolled.addAndGet(applyPartition(entry.getKey(), entry.getValue(), rejected, waitlisted)));
+
+        List<RejectedRow> sorted = new ArrayList<>(rejected);
+        sorted.sort(Comparator.comparingLong(RejectedRow::getLineNumber));
+        return new BulkEnrollmentReport(lineNumber, enrolled.get(), waitlisted.get(), sorted, System.currentTimeMillis() - start);
+    }
+
+    private CompletableFuture<List<Row>> parseAsync(List<String> lines, long firstLineNumber, List<RejectedRow> rejected) {
+        return CompletableFuture.supplyAsync(() -> {
+            List<Row> rows = new ArrayList<>(lines.size());
+            Map<String, Course> courseCache = new HashMap<>();
+            for (int i = 0; i < lines.size(); i++) {
+                long lineNumber = firstLineNumber + i;
+                String line = lines.get(i);
+                if (line.isBlank() || (lineNumber == 1 && line.startsWith("studentId"))) {
+                    continue;
+                }
+                Row row = parse(line, lineNumber, courseCache, rejected);
+                if (row != null) {
+                    rows.add(row);
+                }
+            }
+            return rows;
+        });
+    }
+
+    private Row parse(String line, long lineNumber, Map<String, Course> courseCache, List<RejectedRow> rejected) {
+        int comma = line.indexOf(',');
+        if (comma <= 0 || comma == line.length() - 1 || line.indexOf(',', comma + 1) >= 0) {
+            rejected.add(new RejectedRow(lineNumber, line, RejectionReason.MALFORMED));
+            return null;
+        }
+
+        int studentId;
+        try {
+            studentId = Integer.parseInt(line.substring(0, comma).trim());
+        } catch (NumberFormatException e) {
+            rejected.add(new RejectedRow(lineNumber, line, RejectionReason.MALFORMED));
+            return null;
+        }
+
+        Student student = manager.getStudent(studentId);
+        if (student == null) {
+            rejected.add(new RejectedRow(lineNumber, line, RejectionReason.UNKNOWN_STUDENT));
+            return null;
+        }
+
+        Course course = courseCache.computeIfAbsent(line.substring(comma + 1).trim(), manager::getCourse);
+        if (course == null) {
+            rejected.add(new RejectedRow(lineNumber, line, RejectionReason.UNKNOWN_COURSE));
+            return null;
+        }
+
+        return new Row(lineNumber, line, student, course);
+    }
+
+    private void plan(List<Row> rows, Map<Course, Partition> partitions, Map<Student, Plan> plans, List<RejectedRow> rejected) {
+        for (Row row : rows) {
+            Plan plan = plans.computeIfAbsent(row.student, s -> new Plan());
+            if (plan.courses.contains(row.course) || row.course.hasStudent(row.student)) {
+                rejected.add(new RejectedRow(row.lineNumber, row.line, RejectionReason.DUPLICATE));
+                continue;
+            }
+            long[] mask = row.course.getSlotMask();
+            if (MeetingTime.overlaps(plan.slots, mask) || row.student.hasScheduleConflict(row.course)) {
+                rejected.add(new RejectedRow(row.lineNumber, row.line, RejectionReason.SCHEDULE_CONFLICT));
+                continue;
+            }
+            plan.courses.add(row.course);
+
+            Partition partition = partitions.computeIfAbsent(row.course, this::newPartition);
+            if (partition.seatsLeft == 0) {
+                partition.overflow.add(row);
+                continue;
+            }
+            partition.seatsLeft--;
+            partition.seated.add(row);
+            for (int i = 0; i < mask.length; i++) {
+                plan.slots[i] |= mask[i];
+            }
+        }
+    }
+
+    private Partition newPartition(Course course) {
+        return new Partition(manager.getWaitlistSize(course) > 0 ? 0 : course.getAvailableSeats());
+    }
+
+    private long applyPartition(Course course, Partition partition, List<RejectedRow> rejected, AtomicLong waitlisted) {
+        List<Row> overflow = new ArrayList<>();
+        long enrolled = applySeated(course, partition.seated, overflow, rejected);
+        overflow.addAll(partition.overflow);
+        if (!overflow.isEmpty()) {
+            enrolled += applyThroughWaitlist(course, overflow, rejected, waitlisted);
+        }
+        return enrolled;
+    }
+
+    private long applySeated(Course course, List<Row> rows, List<Row> overflow, List<RejectedRow> rejected) {
+        List<Student> candidates = new ArrayList<>(rows.size());
+        List<Row> candidateRows = new ArrayList<>(rows.size());
+        for (Row row : rows) {
+            if (course.hasStudent(row.student)) {
+                rejected.add(new RejectedRow(row.lineNumber, row.line, RejectionReason.DUPLICATE));
+                continue;
+            }
+            if (!row.student.tryReserveSlots(course)) {
+                rejected.add(new RejectedRow(row.lineNumber, row.line, RejectionReason.SCHEDULE_CONFLICT));
+                continue;
+            }
+            candidates.add(row.student);
+            candidateRows.add(row);
+        }
+
+        List<Student> accepted = course.addStudents(candidates);
+        Set<Student> acceptedSet = new HashSet<>(accepted);
+        for (Row row : candidateRows) {
+            if (!acceptedSet.contains(row.student)) {
+                row.student.releaseSlots(course);
+                if (course.hasStudent(row.student)) {
+                    rejected.add(new RejectedRow(row.lineNumber, row.line, RejectionReason.DUPLICATE));
+                } else {
+                    overflow.add(row);
+                }
+            }
+        }
+
+        manager.applyBulkEnrollment(course, accepted);
+        return accepted.size();
+    }
+
+    private long applyThroughWaitlist(Course course, List<Row> rows, List<RejectedRow> rejected, AtomicLong waitlisted) {
+        List<Student> students = new ArrayList<>(rows.size());
+        for (Row row : rows) {
+            students.add(row.student);
+        }
+        manager.applyBulkWaitlist(course, students);
+
+        long enrolled = 0;
+        for (Row row : rows) {
+            if (course.hasStudent(row.student)) {
+                enrolled++;
+            } else if (manager.getWaitlistPosition(row.student, course) >= 0) {
+                waitlisted.incrementAndGet();
+            } else {
+                rejected.add(new RejectedRow(row.lineNumber, row.line, RejectionReason.SCHEDULE_CONFLICT));
+            }
+        }
+        return enrolled;
+    }
+
+    private static class Row {
+        private final long lineNumber;
+        private final String line;
+        private final Student student;
+        private final Course course;
+
+        private Row(long lineNumber, String line, Student student, Course course) {
+            this.lineNumber = lineNumber;
+            this.line = line;
+            this.student = student;
+            this.course = course;
+        }
+    }
+
+    private static class Partition {
+        private final List<Row> seated = new ArrayList<>();
+        private final List<Row> overflow = new ArrayList<>();
+        private int seatsLeft;
+
+        private Partition(int seatsLeft) {
+            this.seatsLeft = seatsLeft;
+        }
+    }
+
+    private static class Plan {
+        private final long[] slots = new long[MeetingTime.SLOT_WORDS];
+        private final List<Course> courses = new ArrayList<>(4);
+    }
+}
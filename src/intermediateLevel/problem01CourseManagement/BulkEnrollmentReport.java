@@ -0,0 +1,56 @@
+package intermediateLevel.problem01CourseManagement;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+public class BulkEnrollmentReport {
+    private final long totalRows;
+    private final long enrolledCount;
+    private final long waitlistedCount;
+    private final List<RejectedRow> rejectedRows;
+    private final long elapsedMillis;
+
+    public BulkEnrollmentReport(long totalRows, long enrolledCount, long waitlistedCount, List<RejectedRow> rejectedRows, long elapsedMillis) {
+        this.totalRows = totalRows;
+        this.enrolledCount = enrolledCount;
+        this.waitlistedCount = waitlistedCount;
+        this.rejectedRows = Collections.unmodifiableList(rejectedRows);
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public long getTotalRows() {
+        return totalRows;
+    }
+
+    public long getEnrolledCount() {
+        return enrolledCount;
+    }
+
+    public long getWaitlistedCount() {
+        return waitlistedCount;
+    }
+
+    public List<RejectedRow> getRejectedRows() {
+        return rejectedRows;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public Map<RejectionReason, Integer> getRejectionCounts() {
+        Map<RejectionReason, Integer> counts = new EnumMap<>(RejectionReason.class);
+        for (RejectedRow row : rejectedRows) {
+            counts.merge(row.getReason(), 1, Integer::sum);
+        }
+        return counts;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Toplu Kayıt[%d satır, %d kayıt, %d bekleme, %d red %s, %d ms]",
+                totalRows, enrolledCount, waitlistedCount, rejectedRows.size(), getRejectionCounts(), elapsedMillis);
+    }
+}
@@ -1,21 +1,34 @@
 package intermediateLevel.problem01CourseManagement;
 
+import java.time.DayOfWeek;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class Course {
     private String courseId;
     private String courseName;
     private String instructor;
     private int maxCapacity;
-    private List<Student> enrolledStudents;
+    private volatile List<Student> enrolledStudents;
+    private Set<Student> enrolledStudentSet;
+    private AtomicInteger seatCount;
+    private volatile List<MeetingTime> meetingTimes;
+    private volatile long[] slotMask;
 
     public Course(String courseId, String courseName, String instructor, int maxCapacity) {
         this.courseId = courseId;
         this.courseName = courseName;
         this.instructor = instructor;
         this.maxCapacity = maxCapacity;
-        this.enrolledStudents = new ArrayList<>();
+        this.enrolledStudents = Collections.emptyList();
+        this.enrolledStudentSet = ConcurrentHashMap.newKeySet();
+        this.seatCount = new AtomicInteger();
+        this.meetingTimes = Collections.emptyList();
+        this.slotMask = new long[MeetingTime.SLOT_WORDS];
     }
 
     public String getCourseId() {
@@ -35,18 +48,124 @@ public class Course {
     }
 
     public int getCurrentEnrollmentCount() {
-        return enrolledStudents.size();
+        return seatCount.get();
     }
 
     public boolean isFull() {
-        return enrolledStudents.size() >= maxCapacity;
+        return seatCount.get() >= maxCapacity;
     }
 
     public boolean hasStudent(Student student) {
-        return enrolledStudents.contains(student);
+        return enrolledStudentSet.contains(student);
     }
 
     public void addStudent(Student student) {
-        enrolledStudents.add(student);
+        tryAddStudent(student);
+    }
+
+    public EnrollmentResult tryAddStudent(Student student) {
+        if (enrolledStudentSet.contains(student)) {
+            return EnrollmentResult.ALREADY_ENROLLED;
+        }
+
+        if (!tryClaimSeat()) {
+            return EnrollmentResult.COURSE_FULL;
+        }
+
+        if (!enrolledStudentSet.add(student)) {
+            seatCount.decrementAndGet();
+            return EnrollmentResult.ALREADY_ENROLLED;
+        }
+
+        synchronized (this) {
+            List<Student> updated = new ArrayList<>(enrolledStudents.size() + 1);
+            updated.addAll(enrolledStudents);
+            updated.add(student);
+            enrolledStudents = Collections.unmodifiableList(updated);
+        }
+        return EnrollmentResult.ENROLLED;
+    }
+
+    public List<Student> addStudents(List<Student> candidates) {
+        List<Student> accepted = new ArrayList<>(Math.min(candidates.size(), getAvailableSeats()));
+        for (Student student : candidates) {
+            if (enrolledStudentSet.contains(student)) {
+                continue;
+            }
+            if (!tryClaimSeat()) {
+                break;
+            }
+            if (!enrolledStudentSet.add(student)) {
+                seatCount.decrementAndGet();
+                continue;
+            }
+            accepted.add(student);
+        }
+
+        if (!accepted.isEmpty()) {
+            synchronized (this) {
+                List<Student> updated = new ArrayList<>(enrolledStudents.size() + accepted.size());
+                updated.addAll(enrolledStudents);
+                updated.addAll(accepted);
+                enrolledStudents = Collections.unmodifiableList(updated);
+            }
+        }
+        return accepted;
+    }
+
+    public synchronized void addMeetingTime(DayOfWeek day, int startHour, int endHour) {
+        if (seatCount.get() > 0) {
+            throw new IllegalStateException("Kayıtlı öğrencisi olan kursun programı değiştirilemez!");
+        }
+
+        MeetingTime meetingTime = new MeetingTime(day, startHour, endHour);
+        long[] updatedMask = slotMask.clone();
+        meetingTime.addTo(updatedMask);
+        List<MeetingTime> updated = new ArrayList<>(meetingTimes.size() + 1);
+        updated.addAll(meetingTimes);
+        updated.add(meetingTime);
+        meetingTimes = Collections.unmodifiableList(updated);
+        slotMask = updatedMask;
+    }
+
+    public List<MeetingTime> getMeetingTimes() {
+        return meetingTimes;
+    }
+
+    long[] getSlotMask() {
+        return slotMask;
+    }
+
+    public boolean conflictsWith(Course other) {
+        return other != this && MeetingTime.overlaps(slotMask, other.slotMask);
+    }
+
+    public boolean removeStudent(Student student) {
+        if (!enrolledStudentSet.remove(student)) {
+            return false;
+        }
+        synchronized (this) {
+            List<Student> updated = new ArrayList<>(enrolledStudents);
+            updated.remove(student);
+            enrolledStudents = Collections.unmodifiableList(updated);
+        }
+        seatCount.decrementAndGet();
+        return true;
+    }
+
+    public int getAvailableSeats() {
+        return Math.max(0, maxCapacity - seatCount.get());
+    }
+
+    private boolean tryClaimSeat() {
+        while (true) {
+            int taken = seatCount.get();
+            if (taken >= maxCapacity) {
+                return false;
+            }
+            if (seatCount.compareAndSet(taken, taken + 1)) {
+                return true;
+            }
+        }
     }
 }
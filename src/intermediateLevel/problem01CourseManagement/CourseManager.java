@@ -1,67 +1,316 @@
 package intermediateLevel.problem01CourseManagement;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 public class CourseManager {
     private List<Course> courses;
+    private Map<String, Course> courseRegistry;
+    private Map<Integer, Student> studentRegistry;
+    private EnrollmentMatrix matrix;
+    private Map<String, CourseWaitlist> waitlists;
+    private PopularityLeaderboard leaderboard;
 
     public CourseManager() {
-        this.courses = new ArrayList<>();
+        this.courses = new CopyOnWriteArrayList<>();
+        this.courseRegistry = new ConcurrentHashMap<>();
+        this.studentRegistry = new ConcurrentHashMap<>();
+        this.matrix = new EnrollmentMatrix();
+        this.waitlists = new ConcurrentHashMap<>();
+        this.leaderboard = new PopularityLeaderboard();
     }
 
     public void enrollStudent(Student student, Course course) {
+        switch (tryEnroll(student, course)) {
+            case INVALID:
+                System.out.println("Hata: second.Student veya second.Course null olamaz!");
+                break;
+            case ALREADY_ENROLLED:
+                System.out.println("Hata: " + student.getName() + " zaten " + course.getCourseName() + " kursuna kayıtlı!");
+                break;
+            case COURSE_FULL:
+                System.out.println("Hata: " + course.getCourseName() + " kursu dolu! (Kapasite: " + course.getMaxCapacity() + ")");
+                break;
+            case SCHEDULE_CONFLICT:
+                Course conflicting = student.findConflictingCourse(course);
+                System.out.println("Hata: " + course.getCourseName() + " kursu " + student.getName() + " için "
+                        + (conflicting == null ? "mevcut programla" : conflicting.getCourseName() + " kursuyla") + " çakışıyor!");
+                break;
+            case WAITLISTED:
+                System.out.println("Bekleme: " + course.getCourseName() + " kursu dolu, " + student.getName()
+                        + " bekleme listesine alındı (Sıra: " + getWaitlistPosition(student, course) + ")");
+                break;
+            case ENROLLED:
+                System.out.println("Başarılı: " + student.getName() + " -> " + course.getCourseName() + " kursuna kaydedildi!");
+                break;
+        }
+    }
+
+    public EnrollmentResult tryEnroll(Student student, Course course) {
         if (student == null || course == null) {
-            System.out.println("Hata: second.Student veya second.Course null olamaz!");
-            return;
+            return EnrollmentResult.INVALID;
         }
 
-        if (student.isEnrolledIn(course)) {
-            System.out.println("Hata: " + student.getName() + " zaten " + course.getCourseName() + " kursuna kayıtlı!");
-            return;
+        if (course.hasStudent(student) || matrix.isEnrolled(student, course)) {
+            return EnrollmentResult.ALREADY_ENROLLED;
         }
 
-        if (course.isFull()) {
-            System.out.println("Hata: " + course.getCourseName() + " kursu dolu! (Kapasite: " + course.getMaxCapacity() + ")");
-            return;
+        registerCourse(course);
+        studentRegistry.putIfAbsent(student.getId(), student);
+
+        CourseWaitlist waitlist = waitlistOf(course);
+        EnrollmentResult result;
+        synchronized (student.enrollmentLock()) {
+            result = enrollLocked(student, course, waitlist);
+        }
+        if (result == EnrollmentResult.COURSE_FULL || result == EnrollmentResult.WAITLISTED) {
+            return joinWaitlist(student, course, waitlist);
+        }
+        if (result == EnrollmentResult.ENROLLED) {
+            leaderboard.refresh(course);
+        }
+        return result;
+    }
+
+    private EnrollmentResult enrollLocked(Student student, Course course, CourseWaitlist waitlist) {
+        if (course.hasStudent(student)) {
+            return EnrollmentResult.ALREADY_ENROLLED;
+        }
+        if (!student.tryReserveSlots(course)) {
+            return student.holdsSlotsFor(course) ? EnrollmentResult.ALREADY_ENROLLED : EnrollmentResult.SCHEDULE_CONFLICT;
+        }
+        if (!waitlist.isEmpty()) {
+            student.releaseSlots(course);
+            return EnrollmentResult.WAITLISTED;
         }
 
-        course.addStudent(student);
+        EnrollmentResult result = course.tryAddStudent(student);
+        if (result != EnrollmentResult.ENROLLED) {
+            student.releaseSlots(course);
+            return result;
+        }
         student.addCourse(course);
+        matrix.enroll(student, course);
+        return EnrollmentResult.ENROLLED;
+    }
 
-        if (!courses.contains(course)) {
-            courses.add(course);
+    public boolean dropStudent(Student student, Course course) {
+        if (student == null || course == null) {
+            return false;
+        }
+
+        if (!removeEnrollment(student, course)) {
+            return waitlistOf(course).leave(student);
         }
 
-        System.out.println("Başarılı: " + student.getName() + " -> " + course.getCourseName() + " kursuna kaydedildi!");
+        System.out.println("Bırakıldı: " + student.getName() + " -> " + course.getCourseName());
+        promoteFromWaitlist(course);
+        return true;
     }
 
-    public List<Student> getStudentsByCourse(String courseId) {
-        if (courseId == null || courseId.isEmpty()) {
-            return new ArrayList<>();
+    public int dropStudents(Course course, Collection<Student> students) {
+        int dropped = 0;
+        for (Student student : students) {
+            if (removeEnrollment(student, course)) {
+                dropped++;
+            }
+        }
+
+        if (dropped > 0) {
+            System.out.println("Bırakıldı: " + dropped + " öğrenci -> " + course.getCourseName());
+            promoteFromWaitlist(course);
         }
+        return dropped;
+    }
+
+    public int getWaitlistPosition(Student student, Course course) {
+        CourseWaitlist waitlist = waitlists.get(course.getCourseId());
+        return waitlist == null ? -1 : waitlist.positionOf(student);
+    }
 
-        for (Course course : courses) {
-            if (course.getCourseId().equals(courseId)) {
-                return course.getEnrolledStudents();
+    public int getWaitlistSize(Course course) {
+        CourseWaitlist waitlist = waitlists.get(course.getCourseId());
+        return waitlist == null ? 0 : waitlist.size();
+    }
+
+    private EnrollmentResult joinWaitlist(Student student, Course course, CourseWaitlist waitlist) {
+        waitlist.join(student);
+        if (course.getAvailableSeats() > 0) {
+            promoteFromWaitlist(course);
+        }
+        return course.hasStudent(student) ? EnrollmentResult.ENROLLED : EnrollmentResult.WAITLISTED;
+    }
+
+    private boolean removeEnrollment(Student student, Course course) {
+        synchronized (student.enrollmentLock()) {
+            if (!course.removeStudent(student)) {
+                return false;
             }
+            student.removeCourse(course);
+            student.releaseSlots(course);
+            matrix.drop(student, course);
         }
+        leaderboard.refresh(course);
+        return true;
+    }
 
-        return new ArrayList<>();
+    private int promoteFromWaitlist(Course course) {
+        CourseWaitlist waitlist = waitlistOf(course);
+        int promoted = 0;
+
+        while (course.getAvailableSeats() > 0 && !waitlist.isEmpty()) {
+            List<CourseWaitlist.Entry> batch = waitlist.pollBatch(course.getAvailableSeats());
+            for (int i = 0; i < batch.size(); i++) {
+                Student student = batch.get(i).getStudent();
+                EnrollmentResult result;
+                synchronized (student.enrollmentLock()) {
+                    result = promoteLocked(student, course);
+                }
+                if (result == EnrollmentResult.SCHEDULE_CONFLICT) {
+                    System.out.println("Bekleme listesinden çıkarıldı (program çakışması): " + student.getName() + " -> " + course.getCourseName());
+                    continue;
+                }
+                if (result == EnrollmentResult.COURSE_FULL) {
+                    waitlist.restore(batch.subList(i, batch.size()));
+                    return promoted;
+                }
+                if (result == EnrollmentResult.ENROLLED) {
+                    leaderboard.refresh(course);
+                    promoted++;
+                    System.out.println("Bekleme listesinden kaydedildi: " + student.getName() + " -> " + course.getCourseName());
+                }
+            }
+        }
+        return promoted;
     }
 
-    public Course getMostPopularCourse() {
-        if (courses.isEmpty()) {
-            return null;
+    private EnrollmentResult promoteLocked(Student student, Course course) {
+        if (course.hasStudent(student)) {
+            return EnrollmentResult.ALREADY_ENROLLED;
         }
+        if (!student.tryReserveSlots(course)) {
+            return EnrollmentResult.SCHEDULE_CONFLICT;
+        }
+        EnrollmentResult result = course.tryAddStudent(student);
+        if (result != EnrollmentResult.ENROLLED) {
+            student.releaseSlots(course);
+            return result;
+        }
+        student.addCourse(course);
+        matrix.enroll(student, course);
+        return EnrollmentResult.ENROLLED;
+    }
 
-        Course mostPopular = courses.get(0);
+    private CourseWaitlist waitlistOf(Course course) {
+        return waitlists.computeIfAbsent(course.getCourseId(), id -> new CourseWaitlist());
+    }
 
-        for (Course course : courses) {
-            if (course.getCurrentEnrollmentCount() > mostPopular.getCurrentEnrollmentCount()) {
-                mostPopular = course;
+    public void addCourse(Course course) {
+        registerCourse(course);
+    }
+
+    public void addStudent(Student student) {
+        studentRegistry.putIfAbsent(student.getId(), student);
+        matrix.registerStudent(student);
+    }
+
+    public Student getStudent(int studentId) {
+        return studentRegistry.get(studentId);
+    }
+
+    public Collection<Student> getStudents() {
+        return Collections.unmodifiableCollection(studentRegistry.values());
+    }
+
+    public List<Student> getWaitlistedStudents(Course course) {
+        CourseWaitlist waitlist = waitlists.get(course.getCourseId());
+        return waitlist == null ? Collections.emptyList() : waitlist.getStudents();
+    }
+
+    void restoreEnrollments(Course course, List<Student> roster, List<Student> waitlisted) {
+        List<Student> reserved = new ArrayList<>(roster.size());
+        for (Student student : roster) {
+            if (student.tryReserveSlots(course)) {
+                reserved.add(student);
+            }
+        }
+        applyBulkEnrollment(course, course.addStudents(reserved));
+
+        List<Student> pending = new ArrayList<>(waitlisted.size());
+        for (Student student : waitlisted) {
+            if (!course.hasStudent(student)) {
+                pending.add(student);
+            }
+        }
+        if (!pending.isEmpty()) {
+            waitlistOf(course).joinAll(pending);
+        }
+    }
+
+    void applyBulkWaitlist(Course course, List<Student> students) {
+        registerCourse(course);
+        waitlistOf(course).joinAll(students);
+        promoteFromWaitlist(course);
+    }
+
+    void applyBulkEnrollment(Course course, List<Student> accepted) {
+        for (Student student : accepted) {
+            synchronized (student.enrollmentLock()) {
+                if (course.hasStudent(student)) {
+                    student.addCourse(course);
+                    matrix.enroll(student, course);
+                }
             }
         }
+        leaderboard.refresh(course);
+    }
+
+    private void registerCourse(Course course) {
+        if (courseRegistry.putIfAbsent(course.getCourseId(), course) == null) {
+            courses.add(course);
+            matrix.registerCourse(course);
+            leaderboard.add(course);
+        }
+    }
+
+    public List<Student> getStudentsByCourse(String courseId) {
+        Course course = getCourse(courseId);
+        return course == null ? Collections.emptyList() : course.getEnrolledStudents();
+    }
+
+    public Course getCourse(String courseId) {
+        if (courseId == null || courseId.isEmpty()) {
+            return null;
+        }
+        return courseRegistry.get(courseId);
+    }
+
+    public List<Course> getCourses() {
+        return Collections.unmodifiableList(courses);
+    }
+
+    public boolean isEnrolled(Student student, Course course) {
+        return matrix.isEnrolled(student, course);
+    }
+
+    public List<Course> getCoursesInCommon(Student first, Student second) {
+        return matrix.getCoursesInCommon(first, second);
+    }
+
+    public List<Student> getStudentsInBoth(Course first, Course second) {
+        return matrix.getStudentsInBoth(first, second);
+    }
+
+    public Course getMostPopularCourse() {
+        return leaderboard.getMostPopular();
+    }
+
+    public List<Course> getTopCourses(int k) {
+        return leaderboard.getTopCourses(k);
+    }
 
-        return mostPopular;
+    public List<Course> getTopCoursesByFillRatio(int k) {
+        return leaderboard.getTopCoursesByFillRatio(k);
     }
 }
\ No newline at end of file
@@ -0,0 +1,221 @@
+package intermediateLevel.problem01CourseManagement;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public final class CourseSnapshot {
+    private static final int MAGIC = 0x43525353;
+    private static final int FORMAT_VERSION = 1;
+
+    private CourseSnapshot() {
+    }
+
+    public static long save(CourseManager manager, Path file) throws IOException {
+        List<Course> courses = new ArrayList<>(manager.getCourses());
+        List<Student> students = new ArrayList<>(manager.getStudents());
+        Map<Student, Integer> denseIds = new HashMap<>(students.size() * 2);
+        for (Student student : students) {
+            denseIds.put(student, denseIds.size());
+        }
+
+        int[] rosterOffsets = new int[courses.size() + 1];
+        int[] waitlistOffsets = new int[courses.size() + 1];
+        IntList rosterEdges = new IntList();
+        IntList waitlistEdges = new IntList();
+        for (int c = 0; c < courses.size(); c++) {
+            Course course = courses.get(c);
+            appendEdges(course.getEnrolledStudents(), denseIds, students, rosterEdges);
+            appendEdges(manager.getWaitlistedStudents(course), denseIds, students, waitlistEdges);
+            rosterOffsets[c + 1] = rosterEdges.size;
+            waitlistOffsets[c + 1] = waitlistEdges.size;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(1 << 16);
+        buffer.putInt(MAGIC).putInt(FORMAT_VERSION);
+
+        buffer.putInt(students.size());
+        for (Student student : students) {
+            buffer = ensure(buffer, 4);
+            buffer.putInt(student.getId());
+            buffer = putString(buffer, student.getName());
+            buffer = putString(buffer, student.getEmail());
+        }
+
+        buffer = ensure(buffer, 4);
+        buffer.putInt(courses.size());
+        for (Course course : courses) {
+            buffer = putString(buffer, course.getCourseId());
+            buffer = putString(buffer, course.getCourseName());
+            buffer = putString(buffer, course.getInstructor());
+            List<MeetingTime> meetingTimes = course.getMeetingTimes();
+            buffer = ensure(buffer, 8 + meetingTimes.size() * 3);
+            buffer.putInt(course.getMaxCapacity());
+            buffer.putInt(meetingTimes.size());
+            for (MeetingTime meetingTime : meetingTimes) {
+                buffer.put((byte) meetingTime.getDay().getValue());
+                buffer.put((byte) meetingTime.getStartHour());
+                buffer.put((byte) meetingTime.getEndHour());
+            }
+        }
+
+        buffer = putInts(buffer, rosterOffsets, rosterOffsets.length);
+        buffer = putInts(buffer, rosterEdges.values, rosterEdges.size);
+        buffer = putInts(buffer, waitlistOffsets, waitlistOffsets.length);
+        buffer = putInts(buffer, waitlistEdges.values, waitlistEdges.size);
+        buffer.flip();
+
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return buffer.limit();
+    }
+
+    public static CourseManager load(Path file) throws IOException {
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        if (buffer.getInt() != MAGIC) {
+            throw new IOException("Geçersiz snapshot dosyası: " + file);
+        }
+        int version = buffer.getInt();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Desteklenmeyen snapshot sürümü: " + version);
+        }
+
+        CourseManager manager = new CourseManager();
+        Student[] students = new Student[buffer.getInt()];
+        for (int i = 0; i < students.length; i++) {
+            int id = buffer.getInt();
+            students[i] = new Student(id, getString(buffer), getString(buffer));
+            manager.addStudent(students[i]);
+        }
+
+        Course[] courses = new Course[buffer.getInt()];
+        for (int i = 0; i < courses.length; i++) {
+            Course course = new Course(getString(buffer), getString(buffer), getString(buffer), buffer.getInt());
+            int meetingCount = buffer.getInt();
+            for (int m = 0; m < meetingCount; m++) {
+                course.addMeetingTime(DayOfWeek.of(buffer.get()), buffer.get(), buffer.get());
+            }
+            courses[i] = course;
+            manager.addCourse(course);
+        }
+
+        int[] rosterOffsets = getInts(buffer, courses.length + 1);
+        int[] rosterEdges = getInts(buffer, rosterOffsets[courses.length]);
+        int[] waitlistOffsets = getInts(buffer, courses.length + 1);
+        int[] waitlistEdges = getInts(buffer, waitlistOffsets[courses.length]);
+
+        for (int c = 0; c < courses.length; c++) {
+            manager.restoreEnrollments(courses[c],
+                    toStudents(students, rosterEdges, rosterOffsets[c], rosterOffsets[c + 1]),
+                    toStudents(students, waitlistEdges, waitlistOffsets[c], waitlistOffsets[c + 1]));
+        }
+        return manager;
+    }
+
+    private static void appendEdges(List<Student> source, Map<Student, Integer> denseIds,
+                                    List<Student> students, IntList edges) {
+        for (Student student : source) {
+            Integer id = denseIds.get(student);
+            if (id == null) {
+                id = students.size();
+                denseIds.put(student, id);
+                students.add(student);
+            }
+            edges.add(id);
+        }
+    }
+
+    private static List<Student> toStudents(Student[] students, int[] edges, int from, int to) {
+        List<Student> result = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            result.add(students[edges[i]]);
+        }
+        return result;
+    }
+
+    private static ByteBuffer putString(ByteBuffer buffer, String value) {
+        if (value == null) {
+            buffer = ensure(buffer, 4);
+            buffer.putInt(-1);
+            return buffer;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        buffer = ensure(buffer, 4 + bytes.length);
+        buffer.putInt(bytes.length);
+        buffer.put(bytes);
+        return buffer;
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static ByteBuffer putInts(ByteBuffer buffer, int[] values, int length) {
+        buffer = ensure(buffer, 4 + length * 4);
+        buffer.putInt(length);
+        buffer.asIntBuffer().put(values, 0, length);
+        buffer.position(buffer.position() + length * 4);
+        return buffer;
+    }
+
+    private static int[] getInts(ByteBuffer buffer, int expected) throws IOException {
+        int length = buffer.getInt();
+        if (length != expected) {
+            throw new IOException("Bozuk snapshot: beklenen " + expected + " kayıt, bulunan " + length);
+        }
+        int[] values = new int[length];
+        buffer.asIntBuffer().get(values);
+        buffer.position(buffer.position() + length * 4);
+        return values;
+    }
+
+    private static ByteBuffer ensure(ByteBuffer buffer, int needed) {
+        if (buffer.remaining() >= needed) {
+            return buffer;
+        }
+        ByteBuffer grown = ByteBuffer.allocate(Math.max(buffer.capacity() * 2, buffer.position() + needed));
+        buffer.flip();
+        grown.put(buffer);
+        return grown;
+    }
+
+    private static class IntList {
+        private int[] values = new int[1024];
+        private int size;
+
+        private void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package intermediateLevel.problem01CourseManagement;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+public class CourseWaitlist {
+    private final ArrayDeque<Entry> queue;
+    private final Map<Student, Entry> entries;
+    private int[] tree;
+    private int nextTicket;
+
+    public CourseWaitlist() {
+        this.queue = new ArrayDeque<>();
+        this.entries = new HashMap<>();
+        this.tree = new int[64];
+        this.nextTicket = 1;
+    }
+
+    public synchronized int join(Student student) {
+        Entry existing = entries.get(student);
+        if (existing != null) {
+            return prefixSum(existing.ticket);
+        }
+
+        if (nextTicket >= tree.length) {
+            if (entries.size() * 2 < nextTicket) {
+                compact();
+            } else {
+                grow();
+            }
+        }
+        Entry entry = new Entry(student, nextTicket++);
+        entries.put(student, entry);
+        queue.addLast(entry);
+        update(entry.ticket, 1);
+        return prefixSum(entry.ticket);
+    }
+
+    public synchronized boolean leave(Student student) {
+        Entry entry = entries.remove(student);
+        if (entry == null) {
+            return false;
+        }
+        deactivate(entry);
+        if (entries.isEmpty()) {
+            compact();
+        }
+        return true;
+    }
+
+    public synchronized int positionOf(Student student) {
+        Entry entry = entries.get(student);
+        return entry == null ? -1 : prefixSum(entry.ticket);
+    }
+
+    public synchronized boolean contains(Student student) {
+        return entries.containsKey(student);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    public synchronized List<Student> getStudents() {
+        List<Student> students = new ArrayList<>(entries.size());
+        for (Entry entry : queue) {
+            if (entry.active) {
+                students.add(entry.student);
+            }
+        }
+        return students;
+    }
+
+    synchronized List<Entry> pollBatch(int max) {
+        List<Entry> batch = new ArrayList<>(Math.min(max, entries.size()));
+        while (batch.size() < max && !queue.isEmpty()) {
+            Entry entry = queue.pollFirst();
+            if (!entry.active) {
+                continue;
+            }
+            entries.remove(entry.student);
+            deactivate(entry);
+            batch.add(entry);
+        }
+        if (entries.isEmpty()) {
+            compact();
+        }
+        return batch;
+    }
+
+    synchronized void restore(List<Entry> batch) {
+        for (int i = batch.size() - 1; i >= 0; i--) {
+            Entry entry = batch.get(i);
+            if (entries.containsKey(entry.student)) {
+                continue;
+            }
+            entry.active = true;
+            entries.put(entry.student, entry);
+            queue.addFirst(entry);
+        }
+        compact();
+    }
+
+    synchronized void joinAll(List<Student> students) {
+        int added = 0;
+        for (Student student : students) {
+            if (!entries.containsKey(student)) {
+                Entry entry = new Entry(student, nextTicket++);
+                entries.put(student, entry);
+                queue.addLast(entry);
+                added++;
+            }
+        }
+        if (added == 0) {
+            return;
+        }
+        if (entries.size() * 2 < nextTicket) {
+            compact();
+        } else {
+            rebuild(Math.max(tree.length, Integer.highestOneBit(nextTicket) << 1));
+        }
+    }
+
+    private void deactivate(Entry entry) {
+        entry.active = false;
+        update(entry.ticket, -1);
+    }
+
+    private void compact() {
+        int ticket = 1;
+        for (Iterator<Entry> it = queue.iterator(); it.hasNext(); ) {
+            Entry entry = it.next();
+            if (entry.active) {
+                entry.ticket = ticket++;
+            } else {
+                it.remove();
+            }
+        }
+        nextTicket = ticket;
+        rebuild(Math.max(64, Integer.highestOneBit(ticket) << 1));
+    }
+
+    private void grow() {
+        rebuild(tree.length * 2);
+    }
+
+    private void rebuild(int length) {
+        tree = new int[length];
+        for (Entry entry : entries.values()) {
+            tree[entry.ticket] = 1;
+        }
+        for (int i = 1; i < length; i++) {
+            int parent = i + (i & -i);
+            if (parent < length) {
+                tree[parent] += tree[i];
+            }
+        }
+    }
+
+    private void update(int ticket, int delta) {
+        for (int i = ticket; i < tree.length; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    private int prefixSum(int ticket) {
+        int sum = 0;
+        for (int i = ticket; i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+
+    static final class Entry {
+        private final Student student;
+        private int ticket;
+        private boolean active;
+
+        private Entry(Student student, int ticket) {
+            this.student = student;
+            this.ticket = ticket;
+            this.active = true;
+        }
+
+        Student getStudent() {
+            return student;
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package intermediateLevel.problem01CourseManagement;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class EnrollmentMatrix {
+    private final Map<Integer, Integer> studentIndex;
+    private final Map<String, Integer> courseIndex;
+    private final Map<Integer, Student> students;
+    private final Map<Integer, Course> courses;
+    private final Map<Integer, BitSet> courseRosters;
+    private final Map<Integer, BitSet> studentCourses;
+    private final AtomicInteger nextStudentId;
+    private final AtomicInteger nextCourseId;
+
+    public EnrollmentMatrix() {
+        this.studentIndex = new ConcurrentHashMap<>();
+        this.courseIndex = new ConcurrentHashMap<>();
+        this.students = new ConcurrentHashMap<>();
+        this.courses = new ConcurrentHashMap<>();
+        this.courseRosters = new ConcurrentHashMap<>();
+        this.studentCourses = new ConcurrentHashMap<>();
+        this.nextStudentId = new AtomicInteger();
+        this.nextCourseId = new AtomicInteger();
+    }
+
+    public int registerStudent(Student student) {
+        Integer id = studentIndex.get(student.getId());
+        if (id != null) {
+            return id;
+        }
+        return studentIndex.computeIfAbsent(student.getId(), key -> {
+            int denseId = nextStudentId.getAndIncrement();
+            students.put(denseId, student);
+            studentCourses.put(denseId, new BitSet());
+            return denseId;
+        });
+    }
+
+    public int registerCourse(Course course) {
+        Integer id = courseIndex.get(course.getCourseId());
+        if (id != null) {
+            return id;
+        }
+        return courseIndex.computeIfAbsent(course.getCourseId(), key -> {
+            int denseId = nextCourseId.getAndIncrement();
+            courses.put(denseId, course);
+            courseRosters.put(denseId, new BitSet());
+            return denseId;
+        });
+    }
+
+    public boolean containsCourse(Course course) {
+        return courseIndex.containsKey(course.getCourseId());
+    }
+
+    public int getStudentId(Student student) {
+        return studentIndex.getOrDefault(student.getId(), -1);
+    }
+
+    public int getCourseId(Course course) {
+        return courseIndex.getOrDefault(course.getCourseId(), -1);
+    }
+
+    public Student getStudent(int denseId) {
+        return students.get(denseId);
+    }
+
+    public Course getCourse(int denseId) {
+        return courses.get(denseId);
+    }
+
+    public int getStudentCount() {
+        return studentIndex.size();
+    }
+
+    public int getCourseCount() {
+        return courseIndex.size();
+    }
+
+    public void enroll(Student student, Course course) {
+        int studentId = registerStudent(student);
+        int courseId = registerCourse(course);
+        BitSet roster = courseRosters.get(courseId);
+        synchronized (roster) {
+            roster.set(studentId);
+        }
+        BitSet schedule = studentCourses.get(studentId);
+        synchronized (schedule) {
+            schedule.set(courseId);
+        }
+    }
+
+    public void enrollAll(Course course, List<Student> students) {
+        int courseId = registerCourse(course);
+        int[] studentIds = new int[students.size()];
+        for (int i = 0; i < studentIds.length; i++) {
+            studentIds[i] = registerStudent(students.get(i));
+        }
+
+        BitSet roster = courseRosters.get(courseId);
+        synchronized (roster) {
+            for (int studentId : studentIds) {
+                roster.set(studentId);
+            }
+        }
+        for (int studentId : studentIds) {
+            BitSet schedule = studentCourses.get(studentId);
+            synchronized (schedule) {
+                schedule.set(courseId);
+            }
+        }
+    }
+
+    public void drop(Student student, Course course) {
+        int studentId = getStudentId(student);
+        int courseId = getCourseId(course);
+        if (studentId < 0 || courseId < 0) {
+            return;
+        }
+        BitSet roster = courseRosters.get(courseId);
+        synchronized (roster) {
+            roster.clear(studentId);
+        }
+        BitSet schedule = studentCourses.get(studentId);
+        synchronized (schedule) {
+            schedule.clear(courseId);
+        }
+    }
+
+    public boolean isEnrolled(Student student, Course course) {
+        int studentId = getStudentId(student);
+        int courseId = getCourseId(course);
+        if (studentId < 0 || courseId < 0) {
+            return false;
+        }
+        BitSet roster = courseRosters.get(courseId);
+        synchronized (roster) {
+            return roster.get(studentId);
+        }
+    }
+
+    public List<Course> getCoursesInCommon(Student first, Student second) {
+        int firstId = getStudentId(first);
+        int secondId = getStudentId(second);
+        List<Course> result = new ArrayList<>();
+        if (firstId < 0 || secondId < 0) {
+            return result;
+        }
+
+        BitSet common = intersect(studentCourses.get(firstId), studentCourses.get(secondId));
+        for (int id = common.nextSetBit(0); id >= 0; id = common.nextSetBit(id + 1)) {
+            result.add(courses.get(id));
+        }
+        return result;
+    }
+
+    public List<Student> getStudentsInBoth(Course first, Course second) {
+        int firstId = getCourseId(first);
+        int secondId = getCourseId(second);
+        List<Student> result = new ArrayList<>();
+        if (firstId < 0 || secondId < 0) {
+            return result;
+        }
+
+        BitSet both = intersect(courseRosters.get(firstId), courseRosters.get(secondId));
+        for (int id = both.nextSetBit(0); id >= 0; id = both.nextSetBit(id + 1)) {
+            result.add(students.get(id));
+        }
+        return result;
+    }
+
+    public int countStudentsInBoth(Course first, Course second) {
+        int firstId = getCourseId(first);
+        int secondId = getCourseId(second);
+        if (firstId < 0 || secondId < 0) {
+            return 0;
+        }
+        return intersect(courseRosters.get(firstId), courseRosters.get(secondId)).cardinality();
+    }
+
+    private static BitSet intersect(BitSet first, BitSet second) {
+        BitSet result;
+        synchronized (first) {
+            result = (BitSet) first.clone();
+        }
+        synchronized (second) {
+            result.and(second);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,10 @@
+package intermediateLevel.problem01CourseManagement;
+
+public enum EnrollmentResult {
+    ENROLLED,
+    ALREADY_ENROLLED,
+    COURSE_FULL,
+    WAITLISTED,
+    SCHEDULE_CONFLICT,
+    INVALID
+}
@@ -1,5 +1,7 @@
 package intermediateLevel.problem01CourseManagement;
 
+import java.time.DayOfWeek;
+
 public class Main {
     public static void main(String[] args) {
         Student s1 = new Student(1, "Ahmet", "ahmet@mail.com");
@@ -8,6 +10,12 @@ public class Main {
 
         Course java = new Course("J101", "Java Fundamentals", "Ali Hoca", 2);
         Course python = new Course("P101", "Python Basics", "Veli Hoca", 3);
+        Course algorithms = new Course("A201", "Algorithms", "Ali Hoca", 3);
+
+        java.addMeetingTime(DayOfWeek.MONDAY, 9, 11);
+        java.addMeetingTime(DayOfWeek.WEDNESDAY, 9, 11);
+        python.addMeetingTime(DayOfWeek.MONDAY, 13, 15);
+        algorithms.addMeetingTime(DayOfWeek.WEDNESDAY, 10, 12);
 
         CourseManager manager = new CourseManager();
 
@@ -17,7 +25,14 @@ public class Main {
 
         manager.enrollStudent(s1, python);
         manager.enrollStudent(s1, python);
+        manager.enrollStudent(s1, algorithms);
+        manager.enrollStudent(s3, algorithms);
 
         System.out.println("\nEn popüler kurs: " + manager.getMostPopularCourse().getCourseName());
+        System.out.println("Her iki kursta olanlar: " + manager.getStudentsInBoth(java, python).size() + " öğrenci");
+
+        manager.dropStudent(s1, java);
+        System.out.println("Java kursu: " + java.getCurrentEnrollmentCount() + "/" + java.getMaxCapacity()
+                + ", bekleme listesi: " + manager.getWaitlistSize(java));
     }
 }
\ No newline at end of file
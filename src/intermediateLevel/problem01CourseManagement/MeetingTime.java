@@ -0,0 +1,62 @@
+package intermediateLevel.problem01CourseManagement;
+
+import java.time.DayOfWeek;
+import java.time.format.TextStyle;
+import java.util.Locale;
+
+public class MeetingTime {
+    public static final int FIRST_HOUR = 8;
+    public static final int LAST_HOUR = 22;
+    public static final int SLOTS_PER_DAY = LAST_HOUR - FIRST_HOUR;
+    public static final int SLOT_WORDS = (7 * SLOTS_PER_DAY + 63) / 64;
+
+    private static final Locale TURKISH = new Locale("tr", "TR");
+
+    private final DayOfWeek day;
+    private final int startHour;
+    private final int endHour;
+
+    public MeetingTime(DayOfWeek day, int startHour, int endHour) {
+        if (day == null) {
+            throw new IllegalArgumentException("Ders günü boş olamaz!");
+        }
+        if (startHour < FIRST_HOUR || endHour > LAST_HOUR || startHour >= endHour) {
+            throw new IllegalArgumentException("Ders saati " + FIRST_HOUR + ":00 - " + LAST_HOUR + ":00 arasında olmalı!");
+        }
+        this.day = day;
+        this.startHour = startHour;
+        this.endHour = endHour;
+    }
+
+    public DayOfWeek getDay() {
+        return day;
+    }
+    public int getStartHour() {
+        return startHour;
+    }
+    public int getEndHour() {
+        return endHour;
+    }
+
+    public void addTo(long[] slots) {
+        int first = (day.getValue() - 1) * SLOTS_PER_DAY + (startHour - FIRST_HOUR);
+        int last = first + (endHour - startHour);
+        for (int slot = first; slot < last; slot++) {
+            slots[slot >>> 6] |= 1L << slot;
+        }
+    }
+
+    public static boolean overlaps(long[] first, long[] second) {
+        for (int i = 0; i < SLOT_WORDS; i++) {
+            if ((first[i] & second[i]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s %02d:00-%02d:00", day.getDisplayName(TextStyle.FULL, TURKISH), startHour, endHour);
+    }
+}
@@ -0,0 +1,212 @@
+package intermediateLevel.problem01CourseManagement;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class PopularityLeaderboard {
+    private static final Comparator<FillEntry> FILL_ORDER = Comparator
+            .comparingDouble((FillEntry entry) -> entry.ratio)
+            .thenComparing(entry -> entry.course.getCourseId(), Comparator.reverseOrder());
+
+    private final Map<String, Bucket> bucketOf;
+    private final Map<String, FillEntry> fillEntryOf;
+    private final TreeSet<FillEntry> byFillRatio;
+    private final Map<String, AtomicBoolean> dirtyFlagOf;
+    private final ConcurrentLinkedQueue<Course> pending;
+    private Bucket lowest;
+    private Bucket highest;
+
+    public PopularityLeaderboard() {
+        this.bucketOf = new HashMap<>();
+        this.fillEntryOf = new HashMap<>();
+        this.byFillRatio = new TreeSet<>(FILL_ORDER);
+        this.dirtyFlagOf = new ConcurrentHashMap<>();
+        this.pending = new ConcurrentLinkedQueue<>();
+    }
+
+    public synchronized void add(Course course) {
+        if (bucketOf.containsKey(course.getCourseId())) {
+            apply(course);
+            return;
+        }
+
+        int count = course.getCurrentEnrollmentCount();
+        Bucket bucket = findOrCreateFrom(lowest, count);
+        bucket.courses.add(course);
+        bucketOf.put(course.getCourseId(), bucket);
+        updateFillRatio(course, count);
+        dirtyFlagOf.put(course.getCourseId(), new AtomicBoolean());
+    }
+
+    public void refresh(Course course) {
+        AtomicBoolean dirty = dirtyFlagOf.get(course.getCourseId());
+        if (dirty != null && dirty.compareAndSet(false, true)) {
+            pending.add(course);
+        }
+    }
+
+    private void drainPending() {
+        Course course;
+        while ((course = pending.poll()) != null) {
+            dirtyFlagOf.get(course.getCourseId()).set(false);
+            apply(course);
+        }
+    }
+
+    private void apply(Course course) {
+        Bucket current = bucketOf.get(course.getCourseId());
+        if (current == null) {
+            return;
+        }
+
+        int count = course.getCurrentEnrollmentCount();
+        if (current.count == count) {
+            return;
+        }
+
+        Bucket target = findOrCreateFrom(current, count);
+        current.courses.remove(course);
+        if (current.courses.isEmpty()) {
+            unlink(current);
+        }
+        target.courses.add(course);
+        bucketOf.put(course.getCourseId(), target);
+        updateFillRatio(course, count);
+    }
+
+    public synchronized Course getMostPopular() {
+        drainPending();
+        return highest == null ? null : highest.courses.iterator().next();
+    }
+
+    public synchronized List<Course> getTopCourses(int k) {
+        drainPending();
+        List<Course> result = new ArrayList<>(Math.max(0, k));
+        for (Bucket bucket = highest; bucket != null && result.size() < k; bucket = bucket.prev) {
+            Iterator<Course> iterator = bucket.courses.iterator();
+            while (iterator.hasNext() && result.size() < k) {
+                result.add(iterator.next());
+            }
+        }
+        return result;
+    }
+
+    public synchronized List<Course> getTopCoursesByFillRatio(int k) {
+        drainPending();
+        List<Course> result = new ArrayList<>(Math.max(0, k));
+        Iterator<FillEntry> iterator = byFillRatio.descendingIterator();
+        while (iterator.hasNext() && result.size() < k) {
+            result.add(iterator.next().course);
+        }
+        return result;
+    }
+
+    private void updateFillRatio(Course course, int count) {
+        FillEntry previous = fillEntryOf.get(course.getCourseId());
+        if (previous != null) {
+            byFillRatio.remove(previous);
+        }
+        double ratio = course.getMaxCapacity() == 0 ? 0 : (double) count / course.getMaxCapacity();
+        FillEntry entry = new FillEntry(course, ratio);
+        fillEntryOf.put(course.getCourseId(), entry);
+        byFillRatio.add(entry);
+    }
+
+    private Bucket findOrCreateFrom(Bucket start, int count) {
+        if (start == null) {
+            start = lowest;
+        }
+        if (start == null) {
+            Bucket bucket = new Bucket(count);
+            lowest = bucket;
+            highest = bucket;
+            return bucket;
+        }
+
+        Bucket cursor = start;
+        if (cursor.count < count) {
+            while (cursor.next != null && cursor.next.count <= count) {
+                cursor = cursor.next;
+            }
+            if (cursor.count == count) {
+                return cursor;
+            }
+            return insertAfter(cursor, new Bucket(count));
+        }
+
+        while (cursor.prev != null && cursor.prev.count >= count) {
+            cursor = cursor.prev;
+        }
+        if (cursor.count == count) {
+            return cursor;
+        }
+        return insertBefore(cursor, new Bucket(count));
+    }
+
+    private Bucket insertAfter(Bucket anchor, Bucket bucket) {
+        bucket.prev = anchor;
+        bucket.next = anchor.next;
+        if (anchor.next != null) {
+            anchor.next.prev = bucket;
+        } else {
+            highest = bucket;
+        }
+        anchor.next = bucket;
+        return bucket;
+    }
+
+    private Bucket insertBefore(Bucket anchor, Bucket bucket) {
+        bucket.next = anchor;
+        bucket.prev = anchor.prev;
+        if (anchor.prev != null) {
+            anchor.prev.next = bucket;
+        } else {
+            lowest = bucket;
+        }
+        anchor.prev = bucket;
+        return bucket;
+    }
+
+    private void unlink(Bucket bucket) {
+        if (bucket.prev != null) {
+            bucket.prev.next = bucket.next;
+        } else {
+            lowest = bucket.next;
+        }
+        if (bucket.next != null) {
+            bucket.next.prev = bucket.prev;
+        } else {
+            highest = bucket.prev;
+        }
+    }
+
+    private static class Bucket {
+        private final int count;
+        private final LinkedHashSet<Course> courses = new LinkedHashSet<>();
+        private Bucket prev;
+        private Bucket next;
+
+        private Bucket(int count) {
+            this.count = count;
+        }
+    }
+
+    private static class FillEntry {
+        private final Course course;
+        private final double ratio;
+
+        private FillEntry(Course course, double ratio) {
+            this.course = course;
+            this.ratio = ratio;
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package intermediateLevel.problem01CourseManagement;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+public class RegistrationRushDemo {
+    private static final int MIN_THREADS = 4;
+
+    public static void main(String[] args) throws InterruptedException {
+        int studentCount = args.length > 0 ? Integer.parseInt(args[0]) : 50_000;
+        int courseCount = args.length > 1 ? Integer.parseInt(args[1]) : 1_000;
+        int attemptsPerStudent = args.length > 2 ? Integer.parseInt(args[2]) : 8;
+        int threads = args.length > 3 ? Integer.parseInt(args[3]) : Math.max(MIN_THREADS, Runtime.getRuntime().availableProcessors());
+
+        List<Student> students = new ArrayList<>(studentCount);
+        for (int i = 0; i < studentCount; i++) {
+            students.add(new Student(i, "Öğrenci " + i, "ogrenci" + i + "@mail.com"));
+        }
+        List<Course> courses = new ArrayList<>(courseCount);
+        for (int i = 0; i < courseCount; i++) {
+            courses.add(new Course("C" + i, "Kurs " + i, "Hoca " + (i % 50), 20 + i % 300));
+        }
+
+        CourseManager manager = new CourseManager();
+        AtomicInteger enrolled = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+
+        for (int t = 0; t < threads; t++) {
+            int worker = t;
+            new Thread(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                try {
+                    start.await();
+                    for (int i = worker; i < studentCount; i += threads) {
+                        Student student = students.get(i);
+                        for (int a = 0; a < attemptsPerStudent; a++) {
+                            Course course = courses.get(random.nextInt(courseCount));
+                            if (manager.tryEnroll(student, course) == EnrollmentResult.ENROLLED) {
+                                enrolled.incrementAndGet();
+                            } else {
+                                rejected.incrementAndGet();
+                            }
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            }).start();
+        }
+
+        long startNanos = System.nanoTime();
+        start.countDown();
+        done.await();
+        long elapsedNanos = System.nanoTime() - startNanos;
+
+        int violations = 0;
+        int maxCount = 0;
+        for (Course course : courses) {
+            maxCount = Math.max(maxCount, course.getCurrentEnrollmentCount());
+        }
+        if (manager.getMostPopularCourse().getCurrentEnrollmentCount() != maxCount) {
+            violations++;
+        }
+        for (Course course : courses) {
+            int rosterSize = course.getEnrolledStudents().size();
+            if (rosterSize > course.getMaxCapacity() || rosterSize != course.getCurrentEnrollmentCount()) {
+                violations++;
+            }
+        }
+        for (Student student : students) {
+            for (Course course : student.getEnrolledCourses()) {
+                if (!course.hasStudent(student) || !manager.isEnrolled(student, course)) {
+                    violations++;
+                }
+            }
+        }
+
+        int total = enrolled.get() + rejected.get();
+        System.out.println("KAYIT YOĞUNLUĞU - " + threads + " thread, " + total + " deneme");
+        System.out.printf("Başarılı: %,d  Reddedilen: %,d  Hız: %,.0f deneme/sn%n",
+                enrolled.get(), rejected.get(), total * 1_000_000_000.0 / elapsedNanos);
+        System.out.println(violations == 0 ? "PASS - kapasite aşılmadı, kayıtlar tutarlı" : "FAIL - " + violations + " tutarsızlık");
+
+        int contentionViolations = runContention(Math.max(threads, MIN_THREADS));
+        if (violations > 0 || contentionViolations > 0) {
+            System.exit(1);
+        }
+    }
+
+    private static int runContention(int threads) throws InterruptedException {
+        int courseCount = 8;
+        int capacity = 25;
+        int studentCount = 400;
+
+        List<Course> courses = new ArrayList<>(courseCount);
+        for (int i = 0; i < courseCount; i++) {
+            Course course = new Course("H" + i, "Popüler Kurs " + i, "Hoca", capacity);
+            course.addMeetingTime(DayOfWeek.of(i % 5 + 1), 9 + i / 5 * 2, 10 + i / 5 * 2);
+            courses.add(course);
+        }
+        List<Student> students = new ArrayList<>(studentCount);
+        for (int i = 0; i < studentCount; i++) {
+            students.add(new Student(i, "Öğrenci " + i, "ogrenci" + i + "@mail.com"));
+        }
+
+        CourseManager manager = new CourseManager();
+        AtomicIntegerArray enrolledResults = new AtomicIntegerArray(courseCount);
+        AtomicInteger conflicts = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+
+        PrintStream console = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        for (int t = 0; t < threads; t++) {
+            int worker = t;
+            new Thread(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < studentCount; i++) {
+                        Student student = students.get((i + worker * 7) % studentCount);
+                        for (int c = 0; c < courseCount; c++) {
+                            int index = (c + worker) % courseCount;
+                            EnrollmentResult result = manager.tryEnroll(student, courses.get(index));
+                            if (result == EnrollmentResult.ENROLLED) {
+                                enrolledResults.incrementAndGet(index);
+                            } else if (result == EnrollmentResult.SCHEDULE_CONFLICT) {
+                                conflicts.incrementAndGet();
+                            }
+                        }
+                        if (i % 16 == worker % 16) {
+                            manager.dropStudent(student, courses.get(worker % courseCount));
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            }).start();
+        }
+        start.countDown();
+        done.await();
+        System.setOut(console);
+
+        int violations = 0;
+        if (conflicts.get() > 0) {
+            violations++;
+            System.out.println("FAIL - çakışmayan kurslarda " + conflicts.get() + " SCHEDULE_CONFLICT sonucu");
+        }
+        for (int i = 0; i < courseCount; i++) {
+            Course course = courses.get(i);
+            int rosterSize = course.getEnrolledStudents().size();
+            if (rosterSize > capacity || rosterSize != course.getCurrentEnrollmentCount()) {
+                violations++;
+                System.out.println("FAIL - " + course.getCourseId() + " kontenjanı aşıldı: " + rosterSize + "/" + capacity);
+            }
+            if (course.getAvailableSeats() > 0 && manager.getWaitlistSize(course) > 0) {
+                violations++;
+                System.out.println("FAIL - " + course.getCourseId() + " boş koltuk varken bekleme listesi dolu");
+            }
+            for (Student student : course.getEnrolledStudents()) {
+                if (!student.isEnrolledIn(course) || !manager.isEnrolled(student, course)) {
+                    violations++;
+                }
+            }
+        }
+
+        System.out.println("YOĞUN ÇEKİŞME - " + threads + " thread, " + studentCount + " öğrenci, "
+                + courseCount + " kurs x " + capacity + " kontenjan");
+        System.out.println(violations == 0 ? "PASS - aynı anda tekrar kayıt ve bırakmada kontenjan korundu"
+                : "FAIL - " + violations + " tutarsızlık");
+        return violations;
+    }
+}
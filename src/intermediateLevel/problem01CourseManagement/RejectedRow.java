@@ -0,0 +1,30 @@
+package intermediateLevel.problem01CourseManagement;
+
+public class RejectedRow {
+    private final long lineNumber;
+    private final String line;
+    private final RejectionReason reason;
+
+    public RejectedRow(long lineNumber, String line, RejectionReason reason) {
+        this.lineNumber = lineNumber;
+        this.line = line;
+        this.reason = reason;
+    }
+
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    public String getLine() {
+        return line;
+    }
+
+    public RejectionReason getReason() {
+        return reason;
+    }
+
+    @Override
+    public String toString() {
+        return "Satır " + lineNumber + " [" + reason + "]: " + line;
+    }
+}
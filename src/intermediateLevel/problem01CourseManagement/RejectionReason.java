@@ -0,0 +1,10 @@
+package intermediateLevel.problem01CourseManagement;
+
+public enum RejectionReason {
+    MALFORMED,
+    UNKNOWN_STUDENT,
+    UNKNOWN_COURSE,
+    DUPLICATE,
+    SCHEDULE_CONFLICT,
+    COURSE_FULL
+}
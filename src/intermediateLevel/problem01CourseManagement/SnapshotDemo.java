@@ -0,0 +1,169 @@
+package intermediateLevel.problem01CourseManagement;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class SnapshotDemo {
+    public static void main(String[] args) throws Exception {
+        int studentCount = args.length > 0 ? Integer.parseInt(args[0]) : 50_000;
+        int courseCount = args.length > 1 ? Integer.parseInt(args[1]) : 1_000;
+        int attemptsPerStudent = args.length > 2 ? Integer.parseInt(args[2]) : 6;
+
+        List<Student> students = new ArrayList<>(studentCount);
+        for (int i = 0; i < studentCount; i++) {
+            students.add(new Student(i, "Öğrenci " + i, "ogrenci" + i + "@mail.com"));
+        }
+        List<Course> courses = createCourses(courseCount);
+        List<int[]> attempts = new ArrayList<>(studentCount * attemptsPerStudent);
+        Random random = new Random(7);
+        for (int i = 0; i < studentCount; i++) {
+            for (int a = 0; a < attemptsPerStudent; a++) {
+                attempts.add(new int[] { i, random.nextInt(courseCount) });
+            }
+        }
+
+        PrintStream console = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        CourseManager original = new CourseManager();
+        long replayMillis;
+        try {
+            long start = System.currentTimeMillis();
+            for (int[] attempt : attempts) {
+                original.enrollStudent(students.get(attempt[0]), courses.get(attempt[1]));
+            }
+            replayMillis = System.currentTimeMillis() - start;
+        } finally {
+            System.setOut(console);
+        }
+
+        Path file = Files.createTempFile("courses", ".snapshot");
+        long start = System.currentTimeMillis();
+        long bytes = CourseSnapshot.save(original, file);
+        long saveMillis = System.currentTimeMillis() - start;
+
+        start = System.currentTimeMillis();
+        CourseManager restored = CourseSnapshot.load(file);
+        long loadMillis = System.currentTimeMillis() - start;
+
+        System.out.println("Snapshot: " + bytes / 1024 + " KB, yazma " + saveMillis + " ms, okuma " + loadMillis + " ms");
+        System.out.println("enrollStudent ile yeniden oynatma: " + replayMillis + " ms");
+        System.out.println((sameState(original, restored) ? "PASS" : "FAIL") + " - geri yüklenen durum aynı");
+
+        System.out.println(saveWhileEnrolling(file) ? "PASS - kayıtlar sürerken alınan snapshot tutarlı"
+                : "FAIL - eşzamanlı snapshot tutarsız");
+        System.out.println(nullFieldsSurvive(file) ? "PASS - boş (null) ad ve e-posta snapshot'tan aynen döner"
+                : "FAIL - null alanlar snapshot'ta bozuldu");
+        Files.deleteIfExists(file);
+    }
+
+    private static List<Course> createCourses(int courseCount) {
+        List<Course> courses = new ArrayList<>(courseCount);
+        DayOfWeek[] days = DayOfWeek.values();
+        for (int i = 0; i < courseCount; i++) {
+            Course course = new Course("C" + i, "Kurs " + i, "Hoca " + (i % 50), 20 + i % 300);
+            int startHour = MeetingTime.FIRST_HOUR + (i % 6) * 2;
+            course.addMeetingTime(days[i % 5], startHour, startHour + 2);
+            courses.add(course);
+        }
+        return courses;
+    }
+
+    private static boolean sameState(CourseManager expected, CourseManager actual) {
+        if (expected.getCourses().size() != actual.getCourses().size()
+                || expected.getStudents().size() != actual.getStudents().size()) {
+            return false;
+        }
+        for (Course course : expected.getCourses()) {
+            Course copy = actual.getCourse(course.getCourseId());
+            if (copy == null || !sameIds(course.getEnrolledStudents(), copy.getEnrolledStudents())
+                    || !sameIds(expected.getWaitlistedStudents(course), actual.getWaitlistedStudents(copy))
+                    || copy.getMeetingTimes().size() != course.getMeetingTimes().size()) {
+                return false;
+            }
+        }
+        for (Student student : expected.getStudents()) {
+            Student copy = actual.getStudent(student.getId());
+            if (copy == null || copy.getEnrolledCourses().size() != student.getEnrolledCourses().size()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean sameIds(List<Student> first, List<Student> second) {
+        if (first.size() != second.size()) {
+            return false;
+        }
+        for (int i = 0; i < first.size(); i++) {
+            if (first.get(i).getId() != second.get(i).getId()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean nullFieldsSurvive(Path file) throws IOException {
+        CourseManager manager = new CourseManager();
+        manager.addStudent(new Student(1, null, null));
+        manager.addStudent(new Student(2, "", "bos@mail.com"));
+        CourseSnapshot.save(manager, file);
+        CourseManager restored = CourseSnapshot.load(file);
+        Student unnamed = restored.getStudent(1);
+        Student empty = restored.getStudent(2);
+        return unnamed.getName() == null && unnamed.getEmail() == null
+                && "".equals(empty.getName()) && "bos@mail.com".equals(empty.getEmail());
+    }
+
+    private static boolean saveWhileEnrolling(Path file) throws IOException, InterruptedException {
+        CourseManager manager = new CourseManager();
+        List<Course> courses = createCourses(200);
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            students.add(new Student(i, "Öğrenci " + i, "ogrenci" + i + "@mail.com"));
+        }
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread writer = new Thread(() -> {
+            Random random = new Random();
+            while (running.get()) {
+                Student student = students.get(random.nextInt(students.size()));
+                Course course = courses.get(random.nextInt(courses.size()));
+                if (random.nextInt(4) == 0) {
+                    manager.dropStudent(student, course);
+                } else {
+                    manager.tryEnroll(student, course);
+                }
+            }
+        });
+
+        PrintStream console = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        writer.start();
+        boolean consistent = true;
+        try {
+            for (int round = 0; round < 20 && consistent; round++) {
+                CourseSnapshot.save(manager, file);
+                CourseManager restored = CourseSnapshot.load(file);
+                for (Course course : restored.getCourses()) {
+                    if (course.getCurrentEnrollmentCount() > course.getMaxCapacity()
+                            || course.getCurrentEnrollmentCount() != course.getEnrolledStudents().size()) {
+                        consistent = false;
+                    }
+                }
+            }
+        } finally {
+            running.set(false);
+            writer.join();
+            System.setOut(console);
+        }
+        return consistent;
+    }
+}
@@ -1,19 +1,30 @@
 package intermediateLevel.problem01CourseManagement;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class Student {
     private int id;
     private String name;
     private String email;
-    private List<Course> enrolledCourses;
+    private volatile List<Course> enrolledCourses;
+    private Set<Course> enrolledCourseSet;
+    private long[] scheduleSlots;
+    private Set<Course> reservedCourses;
+    private final Object enrollmentLock = new Object();
 
     public Student(int id, String name, String email) {
         this.id = id;
         this.name = name;
         this.email = email;
-        this.enrolledCourses = new ArrayList<>();
+        this.enrolledCourses = Collections.emptyList();
+        this.enrolledCourseSet = ConcurrentHashMap.newKeySet();
+        this.scheduleSlots = new long[MeetingTime.SLOT_WORDS];
+        this.reservedCourses = new HashSet<>();
     }
 
     public int getId() {
@@ -30,10 +41,70 @@ public class Student {
     }
 
     public boolean isEnrolledIn(Course course) {
-        return enrolledCourses.contains(course);
+        return enrolledCourseSet.contains(course);
     }
 
     public void addCourse(Course course) {
-        enrolledCourses.add(course);
+        if (enrolledCourseSet.add(course)) {
+            synchronized (this) {
+                List<Course> updated = new ArrayList<>(enrolledCourses.size() + 1);
+                updated.addAll(enrolledCourses);
+                updated.add(course);
+                enrolledCourses = Collections.unmodifiableList(updated);
+            }
+        }
+    }
+
+    public synchronized boolean hasScheduleConflict(Course course) {
+        return MeetingTime.overlaps(scheduleSlots, course.getSlotMask());
+    }
+
+    public Course findConflictingCourse(Course course) {
+        for (Course enrolled : enrolledCourses) {
+            if (course.conflictsWith(enrolled)) {
+                return enrolled;
+            }
+        }
+        return null;
+    }
+
+    synchronized boolean tryReserveSlots(Course course) {
+        long[] mask = course.getSlotMask();
+        if (MeetingTime.overlaps(scheduleSlots, mask)) {
+            return false;
+        }
+        for (int i = 0; i < scheduleSlots.length; i++) {
+            scheduleSlots[i] |= mask[i];
+        }
+        reservedCourses.add(course);
+        return true;
+    }
+
+    Object enrollmentLock() {
+        return enrollmentLock;
+    }
+
+    synchronized boolean holdsSlotsFor(Course course) {
+        return reservedCourses.contains(course);
+    }
+
+    synchronized void releaseSlots(Course course) {
+        if (!reservedCourses.remove(course)) {
+            return;
+        }
+        long[] mask = course.getSlotMask();
+        for (int i = 0; i < scheduleSlots.length; i++) {
+            scheduleSlots[i] &= ~mask[i];
+        }
+    }
+
+    public void removeCourse(Course course) {
+        if (enrolledCourseSet.remove(course)) {
+            synchronized (this) {
+                List<Course> updated = new ArrayList<>(enrolledCourses);
+                updated.remove(course);
+                enrolledCourses = Collections.unmodifiableList(updated);
+            }
+        }
     }
 }
@@ -0,0 +1,104 @@
+package intermediateLevel.problem01CourseManagement;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CyclicBarrier;
+
+public class WaitlistRaceCheck {
+    public static void main(String[] args) throws Exception {
+        int rounds = args.length > 0 ? Integer.parseInt(args[0]) : 20_000;
+
+        PrintStream console = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        int strandedSeats = 0;
+        int desyncedViews = 0;
+        try {
+            for (int round = 0; round < rounds; round++) {
+                if (!runRound(round)) {
+                    strandedSeats++;
+                }
+                if (!runSameStudentRound(round)) {
+                    desyncedViews++;
+                }
+            }
+        } finally {
+            System.setOut(console);
+        }
+
+        System.out.println("BEKLEME LİSTESİ YARIŞI - " + rounds + " tur (kayıt ve bırakma aynı anda)");
+        System.out.println(strandedSeats == 0 ? "PASS - boş koltuk varken bekleyen öğrenci kalmadı"
+                : "FAIL - " + strandedSeats + " turda koltuk boş kalırken bekleme listesi doluydu");
+        System.out.println(desyncedViews == 0 ? "PASS - aynı öğrencinin kayıt/bırakma yarışında kurs, öğrenci ve matris tutarlı"
+                : "FAIL - " + desyncedViews + " turda kurs, öğrenci ve matris görünümleri ayrıştı");
+        if (strandedSeats > 0 || desyncedViews > 0) {
+            System.exit(1);
+        }
+    }
+
+    private static boolean runRound(int round) throws InterruptedException {
+        CourseManager manager = new CourseManager();
+        Course course = new Course("R" + round, "Yarış Kursu", "Hoca", 1);
+        Student holder = new Student(1, "Koltuk Sahibi", "sahip@mail.com");
+        Student waiting = new Student(2, "Bekleyen", "bekleyen@mail.com");
+        manager.tryEnroll(holder, course);
+
+        CyclicBarrier barrier = new CyclicBarrier(2);
+        Thread enroller = new Thread(() -> {
+            await(barrier);
+            manager.tryEnroll(waiting, course);
+        });
+        Thread dropper = new Thread(() -> {
+            await(barrier);
+            manager.dropStudent(holder, course);
+        });
+        enroller.start();
+        dropper.start();
+        enroller.join();
+        dropper.join();
+
+        return !(course.getAvailableSeats() > 0 && manager.getWaitlistSize(course) > 0)
+                && course.hasStudent(waiting);
+    }
+
+    private static boolean runSameStudentRound(int round) throws InterruptedException {
+        CourseManager manager = new CourseManager();
+        Course course = new Course("S" + round, "Aynı Öğrenci Kursu", "Hoca", 2);
+        Student student = new Student(1, "Kararsız", "kararsiz@mail.com");
+        if (round % 2 == 0) {
+            manager.tryEnroll(student, course);
+        } else {
+            manager.addStudent(student);
+            manager.addCourse(course);
+        }
+
+        CyclicBarrier barrier = new CyclicBarrier(2);
+        Thread enroller = new Thread(() -> {
+            await(barrier);
+            manager.tryEnroll(student, course);
+        });
+        Thread dropper = new Thread(() -> {
+            await(barrier);
+            manager.dropStudent(student, course);
+        });
+        enroller.start();
+        dropper.start();
+        enroller.join();
+        dropper.join();
+
+        boolean inCourse = course.hasStudent(student);
+        return inCourse == student.isEnrolledIn(course)
+                && inCourse == manager.isEnrolled(student, course)
+                && course.getAvailableSeats() == (inCourse ? 1 : 2);
+    }
+
+    private static void await(CyclicBarrier barrier) {
+        try {
+            barrier.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (BrokenBarrierException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
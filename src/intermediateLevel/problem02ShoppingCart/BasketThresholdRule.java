@@ -0,0 +1,25 @@
+package intermediateLevel.problem02ShoppingCart;
+
+public class BasketThresholdRule extends PromotionRule {
+    private final long thresholdInKurus;
+    private final long discountInKurus;
+
+    public BasketThresholdRule(String name, double threshold, double discount) {
+        super(name);
+        if (threshold <= 0 || discount <= 0) {
+            throw new IllegalArgumentException("Sepet eşiği ve indirim pozitif olmalı!");
+        }
+        this.thresholdInKurus = Math.round(threshold * 100);
+        this.discountInKurus = Math.round(discount * 100);
+    }
+
+    @Override
+    public boolean isGlobal() {
+        return true;
+    }
+
+    @Override
+    public long evaluate(ShoppingCart cart) {
+        return cart.getTotalPriceInKurus() >= thresholdInKurus ? discountInKurus : 0;
+    }
+}
@@ -0,0 +1,34 @@
+package intermediateLevel.problem02ShoppingCart;
+
+import java.util.Set;
+
+public class BuyXGetYRule extends PromotionRule {
+    private final String productId;
+    private final int buyQuantity;
+    private final int freeQuantity;
+
+    public BuyXGetYRule(String name, String productId, int buyQuantity, int freeQuantity) {
+        super(name);
+        if (buyQuantity <= 0 || freeQuantity <= 0) {
+            throw new IllegalArgumentException("Al/öde miktarları pozitif olmalı!");
+        }
+        this.productId = productId;
+        this.buyQuantity = buyQuantity;
+        this.freeQuantity = freeQuantity;
+    }
+
+    @Override
+    public Set<String> getTriggerProductIds() {
+        return Set.of(productId);
+    }
+
+    @Override
+    public long evaluate(ShoppingCart cart) {
+        CartItem item = cart.getItem(productId);
+        if (item == null) {
+            return 0;
+        }
+        int groups = item.getQuantity() / (buyQuantity + freeQuantity);
+        return (long) groups * freeQuantity * item.getProduct().getPriceInKurus();
+    }
+}
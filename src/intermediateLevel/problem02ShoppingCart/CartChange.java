@@ -0,0 +1,40 @@
+package intermediateLevel.problem02ShoppingCart;
+
+public class CartChange {
+    private final long version;
+    private final CartChangeType type;
+    private final Product product;
+    private final int quantity;
+
+    public CartChange(long version, CartChangeType type, Product product, int quantity) {
+        this.version = version;
+        this.type = type;
+        this.product = product;
+        this.quantity = quantity;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public CartChangeType getType() {
+        return type;
+    }
+
+    public Product getProduct() {
+        return product;
+    }
+
+    public String getProductId() {
+        return product.getProductId();
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+
+    @Override
+    public String toString() {
+        return "v" + version + " " + type + " " + product.getProductId() + (type == CartChangeType.REMOVED ? "" : " x" + quantity);
+    }
+}
@@ -0,0 +1,90 @@
+package intermediateLevel.problem02ShoppingCart;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+class CartChangeLog {
+    static final int DEFAULT_CAPACITY = 256;
+
+    private final int capacity;
+    private final ArrayDeque<CartChange> entries;
+    private long version;
+    private long compactedVersion;
+
+    CartChangeLog(int capacity) {
+        this.capacity = capacity;
+        this.entries = new ArrayDeque<>();
+    }
+
+    long getVersion() {
+        return version;
+    }
+
+    void restore(long restoredVersion, long baseVersion) {
+        if (baseVersion < 0 || baseVersion > restoredVersion) {
+            throw new IllegalArgumentException("Geçersiz sepet versiyonu: " + baseVersion + "/" + restoredVersion);
+        }
+        entries.clear();
+        version = restoredVersion;
+        compactedVersion = baseVersion;
+    }
+
+    void record(CartChangeType type, Product product, int quantity) {
+        entries.addLast(new CartChange(++version, type, product, quantity));
+        if (entries.size() > capacity) {
+            compactedVersion = entries.removeFirst().getVersion();
+        }
+    }
+
+    CartDelta changesSince(long since, Collection<CartItem> currentItems) {
+        if (since > version) {
+            throw new IllegalArgumentException("Bilinmeyen sepet versiyonu: " + since);
+        }
+
+        if (since < compactedVersion) {
+            List<CartChange> snapshot = new ArrayList<>(currentItems.size());
+            for (CartItem item : currentItems) {
+                snapshot.add(new CartChange(version, CartChangeType.ADDED, item.getProduct(), item.getQuantity()));
+            }
+            return new CartDelta(since, version, true, snapshot);
+        }
+
+        if (since == version) {
+            return new CartDelta(since, version, false, Collections.emptyList());
+        }
+
+        Map<String, CartChange> firstChange = new LinkedHashMap<>();
+        Map<String, CartChange> lastChange = new LinkedHashMap<>();
+        Iterator<CartChange> iterator = entries.descendingIterator();
+        while (iterator.hasNext()) {
+            CartChange change = iterator.next();
+            if (change.getVersion() <= since) {
+                break;
+            }
+            firstChange.put(change.getProductId(), change);
+            lastChange.putIfAbsent(change.getProductId(), change);
+        }
+
+        List<CartChange> patch = new ArrayList<>(lastChange.size());
+        for (CartChange last : lastChange.values()) {
+            boolean existedBefore = firstChange.get(last.getProductId()).getType() != CartChangeType.ADDED;
+            if (last.getType() == CartChangeType.REMOVED) {
+                if (existedBefore) {
+                    patch.add(last);
+                }
+            } else if (existedBefore) {
+                patch.add(new CartChange(last.getVersion(), CartChangeType.QUANTITY_CHANGED, last.getProduct(), last.getQuantity()));
+            } else {
+                patch.add(new CartChange(last.getVersion(), CartChangeType.ADDED, last.getProduct(), last.getQuantity()));
+            }
+        }
+        patch.sort((a, b) -> Long.compare(a.getVersion(), b.getVersion()));
+        return new CartDelta(since, version, false, patch);
+    }
+}
@@ -0,0 +1,7 @@
+package intermediateLevel.problem02ShoppingCart;
+
+public enum CartChangeType {
+    ADDED,
+    REMOVED,
+    QUANTITY_CHANGED
+}
@@ -0,0 +1,324 @@
+package intermediateLevel.problem02ShoppingCart;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+public class CartChecks {
+    private static int failures;
+
+    public static void main(String[] args) throws Exception {
+        PrintStream console = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        try {
+            checkRepeatedAddKeepsStoredPrice(console);
+            checkNullCategory(console);
+            checkPriceRefreshReachesEvictedProducts(console);
+            checkConcurrentPriceRefresh(console);
+            checkCodecKeepsVersion(console);
+            checkCodecResolvesCatalogProducts(console);
+            checkParkingSkipsCheckedOutCarts(console);
+            checkPlainGetDoesNotPin(console);
+            checkParkedCartKeepsPromotions(console);
+            checkParkedMemoryBudget(console);
+            checkFailedCheckoutReleasesStock(console);
+            checkSubmitRacingShutdown(console);
+        } finally {
+            System.setOut(console);
+        }
+        System.out.println(failures == 0 ? "TÜM KONTROLLER GEÇTİ" : failures + " KONTROL BAŞARISIZ");
+    }
+
+    private static void checkRepeatedAddKeepsStoredPrice(PrintStream console) {
+        ShoppingCart cart = new ShoppingCart();
+        cart.addProduct(new Product("P1", "Mouse", 150.0, "Electronics"), 1);
+        cart.addProduct(new Product("P1", "Mouse", 120.0, "Electronics"), 1);
+        long itemsTotal = 0;
+        for (CartItem item : cart.getItems()) {
+            itemsTotal += item.getTotalPriceInKurus();
+        }
+        check(console, "aynı ürün farklı fiyatla tekrar eklenince toplam satırlarla tutarlı",
+                cart.getTotalPriceInKurus() == itemsTotal && itemsTotal == 30000);
+
+        cart.removeProduct("P1");
+        check(console, "ürün çıkarılınca toplam sıfıra döner", cart.getTotalPriceInKurus() == 0
+                && cart.getCategoryTotalInKurus("Electronics") == 0);
+    }
+
+    private static void checkNullCategory(PrintStream console) {
+        ShoppingCart cart = new ShoppingCart();
+        cart.addProduct(new Product("P1", "Hediye Kartı", 50.0, null), 2);
+        cart.addProduct(new Product("P2", "Mouse", 150.0, "Electronics"), 1);
+        check(console, "kategorisiz ürün sepete eklenir ve ayrı toplanır",
+                cart.getCategoryTotalInKurus(null) == 10000 && cart.getCategoryTotalInKurus("Electronics") == 15000
+                        && cart.getTotalPriceInKurus() == 25000);
+
+        ByteBuffer buffer = ByteBuffer.allocate(256);
+        CartCodec codec = new CartCodec();
+        codec.encode(cart, buffer);
+        buffer.flip();
+        ShoppingCart restored = codec.decode(buffer);
+        check(console, "kategorisiz ürün kodlanıp çözülebilir", restored.getCategoryTotalInKurus(null) == 10000);
+    }
+
+    private static void checkPriceRefreshReachesEvictedProducts(PrintStream console) {
+        ProductCatalog catalog = new ProductCatalog(1);
+        ShoppingCart cart = new ShoppingCart(catalog);
+        cart.addProduct(new Product("P1", "Laptop", 1000.0, "Electronics"), 1);
+        for (int i = 0; i < 5; i++) {
+            catalog.get("P2");
+        }
+        cart.addProduct(new Product("P2", "Mouse", 100.0, "Electronics"), 2);
+        Product rejected = new Product("P3", "Kablo", 10.0, "Electronics");
+        cart.addProduct(rejected, 1);
+        cart.addProduct(new Product("P3", "Kablo", 10.0, "Electronics"), 1);
+
+        catalog.refreshPrices(Map.of("P1", 900.0, "P2", 80.0, "P3", 15.0));
+        check(console, "katalogdan çıkarılan ve reddedilen ürünler fiyat güncellemesi alır",
+                cart.getTotalPriceInKurus() == 90000 + 2 * 8000 + 2 * 1500
+                        && cart.getItemCount() == 3 && catalog.size() == 1);
+    }
+
+    private static void checkConcurrentPriceRefresh(PrintStream console) throws InterruptedException {
+        ProductCatalog catalog = new ProductCatalog(4);
+        ShoppingCart cart = new ShoppingCart(catalog);
+        String[] ids = {"P1", "P2", "P3", "P4"};
+        Thread refresher = new Thread(() -> {
+            for (int round = 0; round < 20_000; round++) {
+                catalog.refreshPrices(Map.of(ids[round % ids.length], 10.0 + round % 37));
+            }
+        });
+        refresher.start();
+        int round = 0;
+        while (refresher.isAlive() || round < 1_000) {
+            String id = ids[round % ids.length];
+            if (round % 3 == 2) {
+                cart.removeProduct(id);
+            } else {
+                cart.addProduct(new Product(id, "Ürün " + id, 10.0, "Electronics"), 1 + round % 4);
+            }
+            round++;
+        }
+        refresher.join();
+
+        long itemsTotal = 0;
+        for (CartItem item : cart.getItems()) {
+            itemsTotal += item.getTotalPriceInKurus();
+        }
+        check(console, "fiyatlar başka thread'den güncellenirken sepet toplamı satırlarla tutarlı",
+                cart.getTotalPriceInKurus() == itemsTotal
+                        && cart.getCategoryTotalInKurus("Electronics") == itemsTotal);
+    }
+
+    private static void checkCodecKeepsVersion(PrintStream console) {
+        ShoppingCart cart = new ShoppingCart();
+        cart.addProduct(new Product("P1", "Laptop", 1000.0, "Electronics"), 1);
+        cart.addProduct(new Product("P2", "Mouse", 100.0, "Electronics"), 2);
+        cart.updateQuantity("P2", 3);
+        long version = cart.getVersion();
+
+        ByteBuffer buffer = ByteBuffer.allocate(1024);
+        new CartCodec().encode(cart, buffer);
+        buffer.flip();
+        ShoppingCart restored = new CartCodec().decode(buffer);
+        check(console, "kodlanıp çözülen sepet versiyonunu korur",
+                restored.getVersion() == version && restored.getChangesSince(version).getChanges().isEmpty());
+
+        CartDelta stale = restored.getChangesSince(version - 1);
+        check(console, "park öncesi versiyondan istenen fark tam görüntü döner",
+                stale.isFullSnapshot() && stale.getChanges().size() == 2);
+
+        restored.removeProduct("P1");
+        CartDelta delta = restored.getChangesSince(version);
+        check(console, "çözülen sepette yeni değişiklik yapay ADDED kaydı olmadan gelir",
+                restored.getVersion() == version + 1 && !delta.isFullSnapshot() && delta.getChanges().size() == 1
+                        && delta.getChanges().get(0).getType() == CartChangeType.REMOVED);
+    }
+
+    private static void checkCodecResolvesCatalogProducts(PrintStream console) {
+        ProductCatalog catalog = new ProductCatalog(10);
+        ShoppingCart cart = new ShoppingCart(catalog);
+        cart.addProduct(new Product("P1", "Laptop", 1000.0, "Electronics"), 2);
+        Product stored = cart.getItems().iterator().next().getProduct();
+
+        ByteBuffer buffer = ByteBuffer.allocate(1024);
+        CartCodec codec = new CartCodec();
+        codec.encode(cart, buffer);
+        buffer.flip();
+        ShoppingCart restored = codec.decode(buffer, catalog);
+        check(console, "çözülen sepet ürünü katalogdaki örnekten alır",
+                restored.getItems().iterator().next().getProduct() == stored
+                        && restored.getTotalPriceInKurus() == cart.getTotalPriceInKurus());
+    }
+
+    private static void checkParkingSkipsCheckedOutCarts(PrintStream console) throws InterruptedException {
+        CartStore store = new CartStore(4, 60_000, 0);
+        int additions = 20_000;
+        Thread shopper = new Thread(() -> {
+            for (int i = 0; i < additions; i++) {
+                int index = i;
+                store.withCart("session", cart -> {
+                    cart.addProduct(new Product("P" + index % 8, "Ürün", 1.0, "Electronics"), 1);
+                    return null;
+                });
+            }
+        });
+        shopper.start();
+        while (shopper.isAlive()) {
+            store.parkIdle();
+        }
+        shopper.join();
+
+        int units = store.withCart("session", ShoppingCart::getUnitCount);
+        check(console, "kullanımdaki sepet park edilmez, eşzamanlı eklemeler kaybolmaz", units == additions);
+    }
+
+    private static void checkPlainGetDoesNotPin(PrintStream console) {
+        CartStore store = new CartStore(4, 60_000, 0);
+        store.getOrCreate("session").addProduct(new Product("P1", "Mouse", 150.0, "Electronics"), 1);
+        store.get("session");
+        check(console, "get/getOrCreate sepeti kilitli bırakmaz, boştaki sepet park edilir",
+                store.parkIdle() == 1 && store.getParkedCount() == 1);
+    }
+
+    private static void checkParkedCartKeepsPromotions(PrintStream console) {
+        CartStore store = new CartStore(4, 60_000, 0);
+        long discountBefore = store.withCart("session", cart -> {
+            cart.setPromotionEngine(new PromotionEngine(List.of(
+                    new CategoryPercentageRule("Elektronikte %10", "Electronics", 10))));
+            cart.addProduct(new Product("P1", "Laptop", 1000.0, "Electronics"), 1);
+            return cart.getTotalDiscountInKurus();
+        });
+        store.parkIdle();
+        long discountAfter = store.withCart("session", ShoppingCart::getTotalDiscountInKurus);
+        check(console, "park edilip geri açılan sepet kampanyalarını korur",
+                discountBefore == 10000 && discountAfter == discountBefore);
+    }
+
+    private static void checkParkedMemoryBudget(PrintStream console) {
+        int cartCount = 2_000;
+        long perCartBudget = 512;
+        CartStore store = new CartStore(16, 60_000, 0);
+        for (int i = 0; i < cartCount; i++) {
+            String sessionId = "session-" + i;
+            store.withCart(sessionId, cart -> {
+                cart.addProduct(new Product("P1", "Laptop", 15000.0, "Electronics"), 1);
+                cart.addProduct(new Product("P2", "Mouse", 150.0, "Electronics"), 2);
+                return null;
+            });
+        }
+
+        long directBefore = directMemoryUsed();
+        store.parkIdle();
+        long directUsed = directMemoryUsed() - directBefore;
+        long parkedBytes = store.getParkedBytes();
+
+        check(console, "park edilen sepetlerin bellek hesabı direct buffer yükünü içerir",
+                store.getParkedCount() == cartCount && parkedBytes >= directUsed
+                        && parkedBytes >= (long) cartCount * CartStore.DIRECT_BUFFER_OVERHEAD);
+        check(console, "park edilen sepet başına bellek bütçesi aşılmaz (" + perCartBudget + " byte)",
+                parkedBytes <= cartCount * perCartBudget);
+
+        for (int i = 0; i < cartCount; i++) {
+            store.withCart("session-" + i, ShoppingCart::getItemCount);
+        }
+        check(console, "geri açılan sepetler bellek hesabından düşülür",
+                store.getParkedBytes() == 0 && store.getParkedCount() == 0);
+    }
+
+    private static void checkFailedCheckoutReleasesStock(PrintStream console) throws Exception {
+        InventoryService inventory = new InventoryService(2) {
+            @Override
+            public int reserveUpTo(String productId, int quantity) {
+                if (productId.equals("BOZUK")) {
+                    throw new IllegalStateException("Stok servisi yanıt vermedi!");
+                }
+                return super.reserveUpTo(productId, quantity);
+            }
+        };
+        inventory.addStock("P1", 10);
+        inventory.addStock("BOZUK", 10);
+        CheckoutPipeline checkout = new CheckoutPipeline(inventory, 1, 64);
+
+        ShoppingCart broken = new ShoppingCart();
+        broken.addProduct(new Product("P1", "Laptop", 1000.0, "Electronics"), 3);
+        broken.addProduct(new Product("BOZUK", "Kablo", 10.0, "Electronics"), 1);
+        CompletableFuture<CheckoutResult> failed = checkout.submit(broken);
+        boolean failedExceptionally;
+        try {
+            failed.get(5, TimeUnit.SECONDS);
+            failedExceptionally = false;
+        } catch (ExecutionException e) {
+            failedExceptionally = true;
+        }
+        check(console, "hata alan checkout batch'i ayrılan stoğu geri bırakır",
+                failedExceptionally && inventory.getAvailable("P1") == 10);
+
+        ShoppingCart healthy = new ShoppingCart();
+        healthy.addProduct(new Product("P1", "Laptop", 1000.0, "Electronics"), 2);
+        CheckoutResult result = checkout.submit(healthy).get(5, TimeUnit.SECONDS);
+        checkout.shutdown();
+        check(console, "hatadan sonra worker çalışmaya devam eder",
+                result.isFullyReserved() && inventory.getAvailable("P1") == 8);
+    }
+
+    private static void checkSubmitRacingShutdown(PrintStream console) throws Exception {
+        int unresolved = 0;
+        for (int round = 0; round < 50; round++) {
+            InventoryService inventory = new InventoryService(2);
+            inventory.addStock("P1", 1_000_000);
+            CheckoutPipeline checkout = new CheckoutPipeline(inventory, 2, 16);
+            ShoppingCart cart = new ShoppingCart();
+            cart.addProduct(new Product("P1", "Laptop", 1000.0, "Electronics"), 1);
+
+            List<CompletableFuture<CheckoutResult>> futures = Collections.synchronizedList(new ArrayList<>());
+            Thread submitter = new Thread(() -> {
+                try {
+                    while (true) {
+                        futures.add(checkout.submit(cart));
+                    }
+                } catch (IllegalStateException e) {
+                    return;
+                }
+            });
+            submitter.start();
+            Thread.sleep(2);
+            checkout.shutdown();
+            submitter.join();
+
+            synchronized (futures) {
+                for (CompletableFuture<CheckoutResult> future : futures) {
+                    if (!future.isDone()) {
+                        unresolved++;
+                    }
+                }
+            }
+        }
+        check(console, "kapanışla yarışan submit çağrıları tamamlanmamış future bırakmaz", unresolved == 0);
+    }
+
+    private static long directMemoryUsed() {
+        for (BufferPoolMXBean pool : ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class)) {
+            if (pool.getName().equals("direct")) {
+                return pool.getMemoryUsed();
+            }
+        }
+        return 0;
+    }
+
+    private static void check(PrintStream console, String name, boolean passed) {
+        if (!passed) {
+            failures++;
+        }
+        console.println((passed ? "PASS" : "FAIL") + " - " + name);
+    }
+}
@@ -0,0 +1,202 @@
+package intermediateLevel.problem02ShoppingCart;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class CartCodec {
+    public static final byte FORMAT_VERSION = 3;
+
+    private final Map<String, Integer> dictionary;
+    private final List<String> strings;
+    private byte[] scratch;
+
+    public CartCodec() {
+        this.dictionary = new HashMap<>();
+        this.strings = new ArrayList<>();
+        this.scratch = new byte[64];
+    }
+
+    public int encode(ShoppingCart cart, ByteBuffer buffer) {
+        int start = buffer.position();
+        dictionary.clear();
+        strings.clear();
+
+        for (CartItem item : cart.getItems()) {
+            Product product = item.getProduct();
+            intern(product.getProductId());
+            intern(product.getName());
+            if (product.getCategory() != null) {
+                intern(product.getCategory());
+            }
+        }
+
+        long cartVersion = cart.getVersion();
+        long baseVersion = cartVersion;
+        buffer.put(FORMAT_VERSION);
+        writeVarLong(buffer, cartVersion);
+        writeVarLong(buffer, baseVersion);
+        writeVarInt(buffer, strings.size());
+        for (String value : strings) {
+            writeString(buffer, value);
+        }
+
+        writeVarInt(buffer, cart.getItemCount());
+        for (CartItem item : cart.getItems()) {
+            Product product = item.getProduct();
+            writeVarInt(buffer, dictionary.get(product.getProductId()));
+            writeVarInt(buffer, dictionary.get(product.getName()));
+            writeVarInt(buffer, product.getCategory() == null ? 0 : dictionary.get(product.getCategory()) + 1);
+            buffer.putLong(product.getPriceInKurus());
+            writeVarInt(buffer, item.getQuantity());
+        }
+
+        return buffer.position() - start;
+    }
+
+    public ShoppingCart decode(ByteBuffer buffer) {
+        return decode(buffer, null);
+    }
+
+    public ShoppingCart decode(ByteBuffer buffer, ProductCatalog catalog) {
+        ShoppingCart cart = new ShoppingCart(catalog);
+        decodeInto(buffer, cart, catalog);
+        return cart;
+    }
+
+    private void decodeInto(ByteBuffer buffer, ShoppingCart cart, ProductCatalog catalog) {
+        byte version = buffer.get();
+        if (version != FORMAT_VERSION) {
+            throw new IllegalArgumentException("Desteklenmeyen sepet formatı: " + version);
+        }
+        long cartVersion = readVarLong(buffer);
+        long baseVersion = readVarLong(buffer);
+
+        strings.clear();
+        int stringCount = readVarInt(buffer);
+        for (int i = 0; i < stringCount; i++) {
+            strings.add(readString(buffer));
+        }
+
+        int itemCount = readVarInt(buffer);
+        for (int i = 0; i < itemCount; i++) {
+            String productId = strings.get(readVarInt(buffer));
+            String name = strings.get(readVarInt(buffer));
+            int categoryRef = readVarInt(buffer);
+            String category = categoryRef == 0 ? null : strings.get(categoryRef - 1);
+            long priceInKurus = buffer.getLong();
+            int quantity = readVarInt(buffer);
+            Product product = catalog == null ? null : catalog.find(productId);
+            if (product == null) {
+                product = new Product(productId, name, priceInKurus / 100.0, category);
+            }
+            cart.restoreItem(product, quantity);
+        }
+        cart.restoreVersion(cartVersion, baseVersion);
+        strings.clear();
+    }
+
+    private void intern(String value) {
+        if (!dictionary.containsKey(value)) {
+            dictionary.put(value, strings.size());
+            strings.add(value);
+        }
+    }
+
+    static void writeVarInt(ByteBuffer buffer, int value) {
+        while ((value & ~0x7F) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    static int readVarInt(ByteBuffer buffer) {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            byte b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Bozuk varint!");
+    }
+
+    static void writeVarLong(ByteBuffer buffer, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    static long readVarLong(ByteBuffer buffer) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Bozuk varint!");
+    }
+
+    private static void writeString(ByteBuffer buffer, String value) {
+        writeVarInt(buffer, utf8Length(value));
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                buffer.put((byte) c);
+            } else if (c < 0x800) {
+                buffer.put((byte) (0xC0 | (c >> 6)));
+                buffer.put((byte) (0x80 | (c & 0x3F)));
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length() && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                buffer.put((byte) (0xF0 | (codePoint >> 18)));
+                buffer.put((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+                buffer.put((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+                buffer.put((byte) (0x80 | (codePoint & 0x3F)));
+            } else {
+                buffer.put((byte) (0xE0 | (c >> 12)));
+                buffer.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+                buffer.put((byte) (0x80 | (c & 0x3F)));
+            }
+        }
+    }
+
+    private static int utf8Length(String value) {
+        int length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                length += 1;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length() && Character.isLowSurrogate(value.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    private String readString(ByteBuffer buffer) {
+        int length = readVarInt(buffer);
+        if (length > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        if (scratch.length < length) {
+            scratch = new byte[Math.max(length, scratch.length * 2)];
+        }
+        buffer.get(scratch, 0, length);
+        return new String(scratch, 0, length, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,89 @@
+package intermediateLevel.problem02ShoppingCart;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+public class CartCodecBenchmark {
+    public static void main(String[] args) throws IOException, ClassNotFoundException {
+        int itemCount = args.length > 0 ? Integer.parseInt(args[0]) : 200;
+        int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 20_000;
+
+        PrintStream console = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        ShoppingCart cart = new ShoppingCart();
+        String[] categories = {"Electronics", "Books", "Kırtasiye", "Ev & Yaşam", "Giyim"};
+        for (int i = 0; i < itemCount; i++) {
+            cart.addProduct(new Product("SKU-" + (100000 + i), "Ürün " + i, 10 + i * 1.25, categories[i % categories.length]), 1 + i % 7);
+        }
+        System.setOut(console);
+
+        CartCodec codec = new CartCodec();
+        ByteBuffer buffer = ByteBuffer.allocate(1 << 20);
+
+        long binaryBytes = 0;
+        long start = 0;
+        for (int round = 0; round < 2; round++) {
+            start = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                buffer.clear();
+                binaryBytes = codec.encode(cart, buffer);
+                buffer.flip();
+                codec.decode(buffer);
+            }
+        }
+        long binaryNanos = (System.nanoTime() - start) / iterations;
+
+        long javaBytes = 0;
+        for (int round = 0; round < 2; round++) {
+            start = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                byte[] bytes = javaSerialize(cart);
+                javaBytes = bytes.length;
+                javaDeserialize(bytes);
+            }
+        }
+        long javaNanos = (System.nanoTime() - start) / iterations;
+
+        System.out.println("SEPET CODEC BENCHMARK - " + itemCount + " ürün, " + iterations + " tur (iki format da ShoppingCart'a geri yükler)");
+        System.out.printf("CartCodec         : %,8d byte  %,10d ns/encode+decode%n", binaryBytes, binaryNanos);
+        System.out.printf("Java Serialization: %,8d byte  %,10d ns/encode+decode%n", javaBytes, javaNanos);
+    }
+
+    private static byte[] javaSerialize(ShoppingCart cart) throws IOException {
+        List<Object[]> rows = new ArrayList<>();
+        for (CartItem item : cart.getItems()) {
+            Product product = item.getProduct();
+            rows.add(new Object[]{product.getProductId(), product.getName(), product.getCategory(),
+                    product.getPriceInKurus(), item.getQuantity()});
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeLong(cart.getVersion());
+            out.writeObject(rows);
+        }
+        return bytes.toByteArray();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ShoppingCart javaDeserialize(byte[] bytes) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            long version = in.readLong();
+            ShoppingCart cart = new ShoppingCart();
+            for (Object[] row : (List<Object[]>) in.readObject()) {
+                Product product = new Product((String) row[0], (String) row[1], (Long) row[3] / 100.0, (String) row[2]);
+                cart.restoreItem(product, (Integer) row[4]);
+            }
+            cart.restoreVersion(version, version);
+            return cart;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package intermediateLevel.problem02ShoppingCart;
+
+import java.util.List;
+
+public class CartDelta {
+    private final long fromVersion;
+    private final long toVersion;
+    private final boolean fullSnapshot;
+    private final List<CartChange> changes;
+
+    public CartDelta(long fromVersion, long toVersion, boolean fullSnapshot, List<CartChange> changes) {
+        this.fromVersion = fromVersion;
+        this.toVersion = toVersion;
+        this.fullSnapshot = fullSnapshot;
+        this.changes = changes;
+    }
+
+    public long getFromVersion() {
+        return fromVersion;
+    }
+
+    public long getToVersion() {
+        return toVersion;
+    }
+
+    public boolean isFullSnapshot() {
+        return fullSnapshot;
+    }
+
+    public List<CartChange> getChanges() {
+        return changes;
+    }
+
+    public boolean isEmpty() {
+        return !fullSnapshot && changes.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return (fullSnapshot ? "Snapshot" : "Delta") + "[v" + fromVersion + " -> v" + toVersion + "] " + changes;
+    }
+}
@@ -3,6 +3,9 @@ package intermediateLevel.problem02ShoppingCart;
 public class CartItem {
     private Product product;
     private int quantity;
+    private int categoryId;
+    private int categorySlot;
+    private PriceIndex.Entry priceEntry;
 
     public CartItem(Product product, int quantity) {
         this.product = product;
@@ -24,8 +27,36 @@ public class CartItem {
         this.quantity += quantity;
     }
 
+    int getCategoryId() {
+        return categoryId;
+    }
+
+    void setCategoryId(int categoryId) {
+        this.categoryId = categoryId;
+    }
+
+    int getCategorySlot() {
+        return categorySlot;
+    }
+
+    void setCategorySlot(int categorySlot) {
+        this.categorySlot = categorySlot;
+    }
+
+    PriceIndex.Entry getPriceEntry() {
+        return priceEntry;
+    }
+
+    void setPriceEntry(PriceIndex.Entry priceEntry) {
+        this.priceEntry = priceEntry;
+    }
+
     public double getTotalPrice() {
-        return product.getPrice() * quantity;
+        return getTotalPriceInKurus() / 100.0;
+    }
+
+    public long getTotalPriceInKurus() {
+        return product.getPriceInKurus() * quantity;
     }
 
     @Override
@@ -0,0 +1,263 @@
+package intermediateLevel.problem02ShoppingCart;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.time.Clock;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.Function;
+
+public class CartStore {
+    static final int DIRECT_BUFFER_OVERHEAD = 160;
+
+    private final Segment[] segments;
+    private final int segmentMask;
+    private final long ttlMillis;
+    private final long parkAfterMillis;
+    private final ProductCatalog catalog;
+    private final Clock clock;
+
+    public CartStore(int concurrencyLevel, long ttlMillis, long parkAfterMillis) {
+        this(concurrencyLevel, ttlMillis, parkAfterMillis, null, Clock.systemUTC());
+    }
+
+    public CartStore(int concurrencyLevel, long ttlMillis, long parkAfterMillis, ProductCatalog catalog) {
+        this(concurrencyLevel, ttlMillis, parkAfterMillis, catalog, Clock.systemUTC());
+    }
+
+    public CartStore(int concurrencyLevel, long ttlMillis, long parkAfterMillis, ProductCatalog catalog, Clock clock) {
+        if (concurrencyLevel <= 0 || ttlMillis <= 0 || parkAfterMillis < 0) {
+            throw new IllegalArgumentException("Geçersiz CartStore ayarları!");
+        }
+
+        int segmentCount = Integer.highestOneBit(concurrencyLevel - 1) << 1;
+        if (segmentCount <= 0) {
+            segmentCount = 1;
+        }
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment();
+        }
+        this.segmentMask = segmentCount - 1;
+        this.ttlMillis = ttlMillis;
+        this.parkAfterMillis = parkAfterMillis;
+        this.catalog = catalog;
+        this.clock = clock;
+    }
+
+    public ShoppingCart getOrCreate(String sessionId) {
+        Segment segment = segmentFor(sessionId);
+        synchronized (segment) {
+            return touch(segment, entryFor(segment, sessionId));
+        }
+    }
+
+    public ShoppingCart get(String sessionId) {
+        Segment segment = segmentFor(sessionId);
+        synchronized (segment) {
+            Entry entry = segment.entries.get(sessionId);
+            return entry == null ? null : touch(segment, entry);
+        }
+    }
+
+    public <T> T withCart(String sessionId, Function<ShoppingCart, T> action) {
+        Segment segment = segmentFor(sessionId);
+        Entry entry;
+        ShoppingCart cart;
+        synchronized (segment) {
+            entry = entryFor(segment, sessionId);
+            entry.checkouts++;
+            cart = touch(segment, entry);
+        }
+        try {
+            synchronized (cart) {
+                return action.apply(cart);
+            }
+        } finally {
+            synchronized (segment) {
+                entry.checkouts--;
+                entry.lastAccess = clock.millis();
+            }
+        }
+    }
+
+    private Entry entryFor(Segment segment, String sessionId) {
+        Entry entry = segment.entries.get(sessionId);
+        if (entry == null) {
+            entry = new Entry(new ShoppingCart(catalog));
+            segment.entries.put(sessionId, entry);
+        }
+        return entry;
+    }
+
+    public void put(String sessionId, ShoppingCart cart) {
+        Segment segment = segmentFor(sessionId);
+        synchronized (segment) {
+            Entry entry = new Entry(cart);
+            entry.lastAccess = clock.millis();
+            Entry previous = segment.entries.put(sessionId, entry);
+            if (previous != null && previous.parked != null) {
+                segment.parkedBytes -= footprint(previous.parked);
+            }
+        }
+    }
+
+    public boolean remove(String sessionId) {
+        Segment segment = segmentFor(sessionId);
+        synchronized (segment) {
+            Entry removed = segment.entries.remove(sessionId);
+            if (removed != null && removed.parked != null) {
+                segment.parkedBytes -= footprint(removed.parked);
+            }
+            return removed != null;
+        }
+    }
+
+    public int evictExpired() {
+        long now = clock.millis();
+        int evicted = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                Iterator<Entry> iterator = segment.entries.values().iterator();
+                while (iterator.hasNext()) {
+                    Entry entry = iterator.next();
+                    if (entry.checkouts == 0 && now - entry.lastAccess >= ttlMillis) {
+                        if (entry.parked != null) {
+                            segment.parkedBytes -= footprint(entry.parked);
+                        }
+                        iterator.remove();
+                        evicted++;
+                    }
+                }
+            }
+        }
+        return evicted;
+    }
+
+    public int parkIdle() {
+        long now = clock.millis();
+        int parked = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                for (Entry entry : segment.entries.values()) {
+                    if (entry.cart != null && entry.checkouts == 0 && now - entry.lastAccess >= parkAfterMillis) {
+                        entry.parked = encode(segment, entry.cart);
+                        entry.promotions = entry.cart.getPromotionEngine();
+                        entry.cart = null;
+                        segment.parkedBytes += footprint(entry.parked);
+                        parked++;
+                    }
+                }
+            }
+        }
+        return parked;
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.entries.size();
+            }
+        }
+        return size;
+    }
+
+    public int getParkedCount() {
+        int count = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                for (Entry entry : segment.entries.values()) {
+                    if (entry.parked != null) {
+                        count++;
+                    }
+                }
+            }
+        }
+        return count;
+    }
+
+    public long getParkedBytes() {
+        long bytes = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                bytes += segment.parkedBytes;
+            }
+        }
+        return bytes;
+    }
+
+    public int getParkedBytes(String sessionId) {
+        Segment segment = segmentFor(sessionId);
+        synchronized (segment) {
+            Entry entry = segment.entries.get(sessionId);
+            return entry == null || entry.parked == null ? 0 : footprint(entry.parked);
+        }
+    }
+
+    private ShoppingCart touch(Segment segment, Entry entry) {
+        if (entry.cart == null) {
+            entry.cart = decode(segment, entry.parked);
+            entry.cart.setPromotionEngine(entry.promotions);
+            segment.parkedBytes -= footprint(entry.parked);
+            entry.parked = null;
+            entry.promotions = null;
+        }
+        entry.lastAccess = clock.millis();
+        return entry.cart;
+    }
+
+    private static int footprint(ByteBuffer parked) {
+        return parked.capacity() + DIRECT_BUFFER_OVERHEAD;
+    }
+
+    private Segment segmentFor(String sessionId) {
+        if (sessionId == null) {
+            throw new IllegalArgumentException("SessionId null olamaz!");
+        }
+        int hash = sessionId.hashCode();
+        return segments[(hash ^ (hash >>> 16)) & segmentMask];
+    }
+
+    private ByteBuffer encode(Segment segment, ShoppingCart cart) {
+        while (true) {
+            segment.scratch.clear();
+            try {
+                segment.codec.encode(cart, segment.scratch);
+                break;
+            } catch (BufferOverflowException e) {
+                segment.scratch = ByteBuffer.allocate(segment.scratch.capacity() * 2);
+            }
+        }
+        segment.scratch.flip();
+
+        ByteBuffer parked = ByteBuffer.allocateDirect(segment.scratch.remaining());
+        parked.put(segment.scratch);
+        parked.flip();
+        return parked;
+    }
+
+    private ShoppingCart decode(Segment segment, ByteBuffer parked) {
+        return segment.codec.decode(parked.duplicate(), catalog);
+    }
+
+    private static class Segment {
+        private final Map<String, Entry> entries = new HashMap<>();
+        private final CartCodec codec = new CartCodec();
+        private ByteBuffer scratch = ByteBuffer.allocate(1024);
+        private long parkedBytes;
+    }
+
+    private static class Entry {
+        private ShoppingCart cart;
+        private ByteBuffer parked;
+        private PromotionEngine promotions;
+        private long lastAccess;
+        private int checkouts;
+
+        private Entry(ShoppingCart cart) {
+            this.cart = cart;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package intermediateLevel.problem02ShoppingCart;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+class CategoryIndex {
+    private final CategoryRegistry categories;
+    private Bucket[] buckets;
+    private final Map<String, List<Product>> views;
+    private final Map<String, List<Product>> readOnlyViews;
+
+    CategoryIndex(CategoryRegistry categories) {
+        this.categories = categories;
+        this.buckets = new Bucket[8];
+        this.views = new HashMap<>();
+        this.readOnlyViews = Collections.unmodifiableMap(views);
+    }
+
+    void add(CartItem item) {
+        Product product = item.getProduct();
+        item.setCategoryId(categories.idOf(product.getCategory()));
+        Bucket bucket = bucketFor(item.getCategoryId());
+        if (bucket.products.isEmpty()) {
+            views.put(product.getCategory(), bucket.view);
+        }
+        item.setCategorySlot(bucket.items.size());
+        bucket.items.add(item);
+        bucket.products.add(product);
+    }
+
+    void remove(CartItem item) {
+        Product product = item.getProduct();
+        Bucket bucket = buckets[item.getCategoryId()];
+        int slot = item.getCategorySlot();
+        int last = bucket.items.size() - 1;
+
+        if (slot != last) {
+            CartItem moved = bucket.items.get(last);
+            bucket.items.set(slot, moved);
+            bucket.products.set(slot, moved.getProduct());
+            moved.setCategorySlot(slot);
+        }
+        bucket.items.remove(last);
+        bucket.products.remove(last);
+
+        if (bucket.products.isEmpty()) {
+            views.remove(product.getCategory());
+        }
+    }
+
+    void adjustTotal(int categoryId, long deltaInKurus) {
+        bucketFor(categoryId).totalInKurus += deltaInKurus;
+    }
+
+    int find(String category) {
+        return categories.find(category);
+    }
+
+    long getTotalInKurus(int categoryId) {
+        return categoryId >= 0 && categoryId < buckets.length && buckets[categoryId] != null
+                ? buckets[categoryId].totalInKurus
+                : 0;
+    }
+
+    List<Product> getProducts(int categoryId) {
+        return categoryId >= 0 && categoryId < buckets.length && buckets[categoryId] != null
+                ? buckets[categoryId].view
+                : Collections.emptyList();
+    }
+
+    List<CartItem> getItems(int categoryId) {
+        return categoryId >= 0 && categoryId < buckets.length && buckets[categoryId] != null
+                ? buckets[categoryId].itemsView
+                : Collections.emptyList();
+    }
+
+    int getItemCount(int categoryId) {
+        return getProducts(categoryId).size();
+    }
+
+    Map<String, List<Product>> asMap() {
+        return readOnlyViews;
+    }
+
+    private Bucket bucketFor(int categoryId) {
+        if (categoryId >= buckets.length) {
+            buckets = Arrays.copyOf(buckets, Math.max(buckets.length * 2, categoryId + 1));
+        }
+        Bucket bucket = buckets[categoryId];
+        if (bucket == null) {
+            bucket = new Bucket();
+            buckets[categoryId] = bucket;
+        }
+        return bucket;
+    }
+
+    private static class Bucket {
+        private final List<CartItem> items = new ArrayList<>();
+        private final List<Product> products = new ArrayList<>();
+        private final List<Product> view = Collections.unmodifiableList(products);
+        private final List<CartItem> itemsView = Collections.unmodifiableList(items);
+        private long totalInKurus;
+    }
+}
@@ -0,0 +1,27 @@
+package intermediateLevel.problem02ShoppingCart;
+
+import java.util.Set;
+
+public class CategoryPercentageRule extends PromotionRule {
+    private final String category;
+    private final int percent;
+
+    public CategoryPercentageRule(String name, String category, int percent) {
+        super(name);
+        if (percent <= 0 || percent > 100) {
+            throw new IllegalArgumentException("İndirim oranı 1-100 arasında olmalı!");
+        }
+        this.category = category;
+        this.percent = percent;
+    }
+
+    @Override
+    public Set<String> getTriggerCategories() {
+        return Set.of(category);
+    }
+
+    @Override
+    public long evaluate(ShoppingCart cart) {
+        return cart.getCategoryTotalInKurus(category) * percent / 100;
+    }
+}
@@ -0,0 +1,46 @@
+package intermediateLevel.problem02ShoppingCart;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+public final class CategoryRegistry {
+    public static final int UNCATEGORIZED = 0;
+
+    private final Map<String, Integer> ids;
+    private final CopyOnWriteArrayList<String> names;
+
+    public CategoryRegistry() {
+        this.ids = new ConcurrentHashMap<>();
+        this.names = new CopyOnWriteArrayList<>();
+        names.add(null);
+    }
+
+    public int idOf(String category) {
+        if (category == null) {
+            return UNCATEGORIZED;
+        }
+        Integer id = ids.get(category);
+        if (id != null) {
+            return id;
+        }
+        synchronized (this) {
+            return ids.computeIfAbsent(category, name -> {
+                names.add(name);
+                return names.size() - 1;
+            });
+        }
+    }
+
+    public int find(String category) {
+        return category == null ? UNCATEGORIZED : ids.getOrDefault(category, -1);
+    }
+
+    public String nameOf(int categoryId) {
+        return names.get(categoryId);
+    }
+
+    public int size() {
+        return names.size();
+    }
+}
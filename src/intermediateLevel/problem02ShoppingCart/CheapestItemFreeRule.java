@@ -0,0 +1,50 @@
+package intermediateLevel.problem02ShoppingCart;
+
+import java.util.Collection;
+import java.util.Set;
+
+public class CheapestItemFreeRule extends PromotionRule {
+    private final String category;
+    private final int minimumUnits;
+
+    public CheapestItemFreeRule(String name, int minimumUnits) {
+        this(name, null, minimumUnits);
+    }
+
+    public CheapestItemFreeRule(String name, String category, int minimumUnits) {
+        super(name);
+        if (minimumUnits < 2) {
+            throw new IllegalArgumentException("En az 2 ürün gerekli!");
+        }
+        this.category = category;
+        this.minimumUnits = minimumUnits;
+    }
+
+    @Override
+    public Set<String> getTriggerCategories() {
+        return category == null ? Set.of() : Set.of(category);
+    }
+
+    @Override
+    public boolean isGlobal() {
+        return category == null;
+    }
+
+    @Override
+    public long evaluate(ShoppingCart cart) {
+        if (category == null) {
+            Product cheapestProduct = cart.getCheapestProduct();
+            return cheapestProduct != null && cart.getUnitCount() >= minimumUnits ? cheapestProduct.getPriceInKurus() : 0;
+        }
+
+        Collection<CartItem> items = cart.getItemsInCategory(category);
+        int units = 0;
+        long cheapest = Long.MAX_VALUE;
+        for (CartItem item : items) {
+            units += item.getQuantity();
+            cheapest = Math.min(cheapest, item.getProduct().getPriceInKurus());
+        }
+
+        return units >= minimumUnits ? cheapest : 0;
+    }
+}
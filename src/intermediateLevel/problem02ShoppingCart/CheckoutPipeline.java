@@ -0,0 +1,158 @@
+package intermediateLevel.problem02ShoppingCart;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+public class CheckoutPipeline {
+    private final InventoryService inventory;
+    private final int maxBatchSize;
+    private final BlockingQueue<CheckoutRequest> queue;
+    private final ExecutorService workers;
+    private final Object lifecycleLock = new Object();
+    private boolean running;
+
+    public CheckoutPipeline(InventoryService inventory, int workerCount, int maxBatchSize) {
+        if (workerCount <= 0 || maxBatchSize <= 0) {
+            throw new IllegalArgumentException("Worker ve batch boyutu pozitif olmalı!");
+        }
+        this.inventory = inventory;
+        this.maxBatchSize = maxBatchSize;
+        this.queue = new LinkedBlockingQueue<>();
+        this.workers = Executors.newFixedThreadPool(workerCount);
+        this.running = true;
+
+        for (int i = 0; i < workerCount; i++) {
+            workers.execute(this::runWorker);
+        }
+    }
+
+    public CompletableFuture<CheckoutResult> submit(ShoppingCart cart) {
+        Map<String, Integer> quantities = new LinkedHashMap<>();
+        Map<String, Long> prices = new HashMap<>();
+        for (CartItem item : cart.getItems()) {
+            quantities.put(item.getProduct().getProductId(), item.getQuantity());
+            prices.put(item.getProduct().getProductId(), item.getProduct().getPriceInKurus());
+        }
+
+        CheckoutRequest request = new CheckoutRequest(quantities, prices);
+        synchronized (lifecycleLock) {
+            if (!running) {
+                throw new IllegalStateException("Checkout pipeline kapatıldı!");
+            }
+            queue.add(request);
+        }
+        return request.future;
+    }
+
+    public void shutdown() throws InterruptedException {
+        synchronized (lifecycleLock) {
+            running = false;
+        }
+        workers.shutdownNow();
+        workers.awaitTermination(5, TimeUnit.SECONDS);
+
+        List<CheckoutRequest> pending = new ArrayList<>();
+        queue.drainTo(pending);
+        for (CheckoutRequest request : pending) {
+            request.future.completeExceptionally(new IllegalStateException("Checkout pipeline kapatıldı!"));
+        }
+    }
+
+    private void runWorker() {
+        List<CheckoutRequest> batch = new ArrayList<>(maxBatchSize);
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                batch.add(queue.take());
+                queue.drainTo(batch, maxBatchSize - 1);
+                processBatch(batch);
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            for (CheckoutRequest request : batch) {
+                request.future.completeExceptionally(new IllegalStateException("Checkout pipeline kapatıldı!"));
+            }
+        }
+    }
+
+    private void processBatch(List<CheckoutRequest> batch) {
+        Map<String, Integer> granted = new HashMap<>();
+        List<CheckoutResult> results = null;
+        RuntimeException failure = null;
+        try {
+            results = allocate(batch, granted);
+        } catch (RuntimeException e) {
+            failure = e;
+        } finally {
+            granted.forEach(inventory::release);
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            if (failure != null) {
+                batch.get(i).future.completeExceptionally(failure);
+            } else {
+                batch.get(i).future.complete(results.get(i));
+            }
+        }
+    }
+
+    private List<CheckoutResult> allocate(List<CheckoutRequest> batch, Map<String, Integer> granted) {
+        Map<String, Integer> demand = new HashMap<>();
+        for (CheckoutRequest request : batch) {
+            request.quantities.forEach((productId, quantity) -> demand.merge(productId, quantity, Integer::sum));
+        }
+
+        for (Map.Entry<String, Integer> entry : demand.entrySet()) {
+            granted.put(entry.getKey(), inventory.reserveUpTo(entry.getKey(), entry.getValue()));
+        }
+
+        Map<String, Integer> remaining = new HashMap<>(granted);
+        List<CheckoutResult> results = new ArrayList<>(batch.size());
+        for (CheckoutRequest request : batch) {
+            Map<String, Integer> reserved = new LinkedHashMap<>();
+            Map<String, Integer> failed = new LinkedHashMap<>();
+            long total = 0;
+
+            for (Map.Entry<String, Integer> entry : request.quantities.entrySet()) {
+                String productId = entry.getKey();
+                int quantity = entry.getValue();
+                int available = remaining.get(productId);
+
+                if (available >= quantity) {
+                    remaining.put(productId, available - quantity);
+                    reserved.put(productId, quantity);
+                    total += request.prices.get(productId) * quantity;
+                } else {
+                    failed.put(productId, quantity);
+                }
+            }
+
+            results.add(new CheckoutResult(reserved, failed, total));
+        }
+
+        granted.putAll(remaining);
+        return results;
+    }
+
+    private static class CheckoutRequest {
+        private final Map<String, Integer> quantities;
+        private final Map<String, Long> prices;
+        private final CompletableFuture<CheckoutResult> future;
+
+        private CheckoutRequest(Map<String, Integer> quantities, Map<String, Long> prices) {
+            this.quantities = quantities;
+            this.prices = prices;
+            this.future = new CompletableFuture<>();
+        }
+    }
+}
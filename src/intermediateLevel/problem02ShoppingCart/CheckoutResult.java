@@ -0,0 +1,41 @@
+package intermediateLevel.problem02ShoppingCart;
+
+import java.util.Collections;
+import java.util.Map;
+
+public class CheckoutResult {
+    private final Map<String, Integer> reservedItems;
+    private final Map<String, Integer> failedItems;
+    private final long reservedTotalInKurus;
+
+    public CheckoutResult(Map<String, Integer> reservedItems, Map<String, Integer> failedItems, long reservedTotalInKurus) {
+        this.reservedItems = Collections.unmodifiableMap(reservedItems);
+        this.failedItems = Collections.unmodifiableMap(failedItems);
+        this.reservedTotalInKurus = reservedTotalInKurus;
+    }
+
+    public Map<String, Integer> getReservedItems() {
+        return reservedItems;
+    }
+
+    public Map<String, Integer> getFailedItems() {
+        return failedItems;
+    }
+
+    public long getReservedTotalInKurus() {
+        return reservedTotalInKurus;
+    }
+
+    public double getReservedTotal() {
+        return reservedTotalInKurus / 100.0;
+    }
+
+    public boolean isFullyReserved() {
+        return failedItems.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "Sipariş[rezerve: " + reservedItems + ", başarısız: " + failedItems + ", tutar: " + getReservedTotal() + " TL]";
+    }
+}
@@ -0,0 +1,28 @@
+package intermediateLevel.problem02ShoppingCart;
+
+public class DiscountLine {
+    private final String promotionName;
+    private final long amountInKurus;
+
+    public DiscountLine(String promotionName, long amountInKurus) {
+        this.promotionName = promotionName;
+        this.amountInKurus = amountInKurus;
+    }
+
+    public String getPromotionName() {
+        return promotionName;
+    }
+
+    public long getAmountInKurus() {
+        return amountInKurus;
+    }
+
+    public double getAmount() {
+        return amountInKurus / 100.0;
+    }
+
+    @Override
+    public String toString() {
+        return promotionName + ": -" + getAmount() + " TL";
+    }
+}
@@ -0,0 +1,57 @@
+package intermediateLevel.problem02ShoppingCart;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class InventoryService {
+    private final Map<String, StripedStock> stocks;
+    private final int stripesPerProduct;
+
+    public InventoryService() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public InventoryService(int stripesPerProduct) {
+        if (stripesPerProduct <= 0) {
+            throw new IllegalArgumentException("Stripe sayısı pozitif olmalı!");
+        }
+        this.stocks = new ConcurrentHashMap<>();
+        this.stripesPerProduct = stripesPerProduct;
+    }
+
+    public void addStock(String productId, int quantity) {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("Stok miktarı pozitif olmalı!");
+        }
+        stocks.computeIfAbsent(productId, id -> new StripedStock(stripesPerProduct)).add(quantity);
+    }
+
+    public int reserveUpTo(String productId, int quantity) {
+        StripedStock stock = stocks.get(productId);
+        return stock == null ? 0 : stock.take(quantity);
+    }
+
+    public boolean reserve(String productId, int quantity) {
+        int reserved = reserveUpTo(productId, quantity);
+        if (reserved < quantity) {
+            release(productId, reserved);
+            return false;
+        }
+        return true;
+    }
+
+    public void release(String productId, int quantity) {
+        if (quantity <= 0) {
+            return;
+        }
+        StripedStock stock = stocks.get(productId);
+        if (stock != null) {
+            stock.release(quantity);
+        }
+    }
+
+    public int getAvailable(String productId) {
+        StripedStock stock = stocks.get(productId);
+        return stock == null ? 0 : stock.available();
+    }
+}
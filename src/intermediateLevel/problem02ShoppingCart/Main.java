@@ -4,13 +4,21 @@ import java.util.List;
 import java.util.Map;
 
 public class Main {
-    public static void main(String[] args) {
+    public static void main(String[] args) throws Exception {
+        ProductCatalog catalog = new ProductCatalog(1000);
+
         Product laptop = new Product("P001", "Laptop", 15000.0, "Electronics");
         Product mouse = new Product("P002", "Mouse", 150.0, "Electronics");
         Product book = new Product("P003", "Java Book", 200.0, "Books");
         Product keyboard = new Product("P004", "Keyboard", 500.0, "Electronics");
 
-        ShoppingCart cart = new ShoppingCart();
+        ShoppingCart cart = new ShoppingCart(catalog);
+        cart.setPromotionEngine(new PromotionEngine(List.of(
+                new BuyXGetYRule("3 Al 2 Öde - Kitap", "P003", 2, 1),
+                new CategoryPercentageRule("Elektronikte %5", "Electronics", 5),
+                new BasketThresholdRule("30.000 TL üzeri 500 TL", 30000.0, 500.0),
+                new CheapestItemFreeRule("En ucuz ürün bedava", 10)
+        )));
 
         cart.addProduct(laptop, 1);
         cart.addProduct(mouse, 2);
@@ -21,7 +29,9 @@ public class Main {
 
         System.out.println("Toplam: " + cart.getTotalPrice());
 
+        long syncedVersion = cart.getVersion();
         cart.updateQuantity("P002", 5);
+        System.out.println("DEĞİŞİKLİKLER: " + cart.getChangesSince(syncedVersion));
 
         cart.displayCart();
 
@@ -31,7 +41,29 @@ public class Main {
             System.out.println(category + ": " + products);
         });
 
+        System.out.println("\nElectronics toplamı: " + cart.getCategoryTotal("Electronics") + " TL");
+
         Product expensive = cart.getMostExpensiveProduct();
         System.out.println("\nEN PAHALI: " + expensive);
+        System.out.println("EN UCUZ: " + cart.getCheapestProduct());
+        System.out.println("EN PAHALI 2: " + cart.getMostExpensiveProducts(2));
+
+        catalog.refreshPrices(Map.of("P002", 120.0));
+        System.out.println("\nFİYAT GÜNCELLEME SONRASI TOPLAM: " + cart.getTotalPrice() + " TL");
+        System.out.println(catalog);
+
+        InventoryService inventory = new InventoryService();
+        inventory.addStock("P001", 1);
+        inventory.addStock("P002", 100);
+        inventory.addStock("P003", 100);
+        CheckoutPipeline checkout = new CheckoutPipeline(inventory, 2, 64);
+        System.out.println("\nCHECKOUT: " + checkout.submit(cart).get());
+        checkout.shutdown();
+
+        CartStore store = new CartStore(16, 30 * 60 * 1000L, 0L, catalog);
+        store.put("session-1", cart);
+        store.parkIdle();
+        System.out.println("\nPARK EDİLEN SEPET: " + store.getParkedBytes("session-1") + " byte");
+        System.out.println("Geri yüklenen toplam: " + store.withCart("session-1", ShoppingCart::getTotalPrice) + " TL");
     }
 }
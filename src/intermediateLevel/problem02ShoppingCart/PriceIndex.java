@@ -0,0 +1,77 @@
+package intermediateLevel.problem02ShoppingCart;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.TreeSet;
+
+class PriceIndex {
+    private static final Comparator<Entry> ORDER = Comparator
+            .comparingLong((Entry entry) -> entry.priceInKurus)
+            .thenComparing(entry -> entry.product.getProductId());
+
+    private final TreeSet<Entry> entries;
+
+    PriceIndex() {
+        this.entries = new TreeSet<>(ORDER);
+    }
+
+    void add(CartItem item) {
+        Entry entry = new Entry(item.getProduct());
+        item.setPriceEntry(entry);
+        entries.add(entry);
+    }
+
+    void remove(CartItem item) {
+        entries.remove(item.getPriceEntry());
+        item.setPriceEntry(null);
+    }
+
+    long reprice(CartItem item) {
+        long oldPriceInKurus = item.getPriceEntry().priceInKurus;
+        remove(item);
+        add(item);
+        return item.getPriceEntry().priceInKurus - oldPriceInKurus;
+    }
+
+    Product max() {
+        return entries.isEmpty() ? null : entries.last().product;
+    }
+
+    Product min() {
+        return entries.isEmpty() ? null : entries.first().product;
+    }
+
+    List<Product> top(int k) {
+        List<Product> result = new ArrayList<>(Math.min(k, entries.size()));
+        Iterator<Entry> iterator = entries.descendingIterator();
+        while (result.size() < k && iterator.hasNext()) {
+            result.add(iterator.next().product);
+        }
+        return result;
+    }
+
+    List<Product> bottom(int k) {
+        List<Product> result = new ArrayList<>(Math.min(k, entries.size()));
+        Iterator<Entry> iterator = entries.iterator();
+        while (result.size() < k && iterator.hasNext()) {
+            result.add(iterator.next().product);
+        }
+        return result;
+    }
+
+    static final class Entry {
+        private final long priceInKurus;
+        private final Product product;
+
+        private Entry(Product product) {
+            this.priceInKurus = product.getPriceInKurus();
+            this.product = product;
+        }
+
+        long getPriceInKurus() {
+            return priceInKurus;
+        }
+    }
+}
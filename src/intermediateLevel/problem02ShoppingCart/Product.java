@@ -1,16 +1,25 @@
 package intermediateLevel.problem02ShoppingCart;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.WeakHashMap;
+
 public class Product {
     private String productId;
     private String name;
-    private double price;
+    private volatile double price;
     private String category;
+    private volatile long priceInKurus;
+    private final Set<ShoppingCart> holders = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
 
     public Product(String productId, String name, double price, String category) {
         this.productId = productId;
         this.name = name;
         this.price = price;
         this.category = category;
+        this.priceInKurus = Math.round(price * 100);
     }
 
     public String getProductId() {
@@ -22,10 +31,34 @@ public class Product {
     public double getPrice() {
         return price;
     }
+    public long getPriceInKurus() {
+        return priceInKurus;
+    }
     public String getCategory() {
         return category;
     }
 
+    void updatePrice(double newPrice) {
+        this.price = newPrice;
+        this.priceInKurus = Math.round(newPrice * 100);
+
+        List<ShoppingCart> carts;
+        synchronized (holders) {
+            carts = new ArrayList<>(holders);
+        }
+        for (ShoppingCart cart : carts) {
+            cart.onPriceChanged(this);
+        }
+    }
+
+    void addHolder(ShoppingCart cart) {
+        holders.add(cart);
+    }
+
+    void removeHolder(ShoppingCart cart) {
+        holders.remove(cart);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
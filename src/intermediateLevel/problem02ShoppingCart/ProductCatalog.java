@@ -0,0 +1,170 @@
+package intermediateLevel.problem02ShoppingCart;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class ProductCatalog {
+    private final int maximumSize;
+    private final LinkedHashMap<String, Product> products;
+    private final FrequencySketch sketch;
+    private final Map<String, DetachedProduct> detached;
+    private final ReferenceQueue<Product> collected;
+    private final CategoryRegistry categories;
+
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+    private long rejectionCount;
+
+    public ProductCatalog(int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Katalog boyutu pozitif olmalı!");
+        }
+        this.maximumSize = maximumSize;
+        this.products = new LinkedHashMap<>(16, 0.75f, true);
+        this.sketch = new FrequencySketch(maximumSize);
+        this.detached = new HashMap<>();
+        this.collected = new ReferenceQueue<>();
+        this.categories = new CategoryRegistry();
+    }
+
+    public CategoryRegistry getCategories() {
+        return categories;
+    }
+
+    public synchronized Product get(String productId) {
+        sketch.increment(productId);
+        Product product = products.get(productId);
+        if (product == null) {
+            missCount++;
+        } else {
+            hitCount++;
+        }
+        return product;
+    }
+
+    public synchronized Product intern(Product product) {
+        String productId = product.getProductId();
+        sketch.increment(productId);
+
+        Product cached = products.get(productId);
+        if (cached != null) {
+            hitCount++;
+            return cached;
+        }
+
+        missCount++;
+        purgeCollected();
+        Product live = detachedInstance(productId);
+        if (live != null) {
+            product = live;
+        }
+
+        if (products.size() < maximumSize) {
+            detached.remove(productId);
+            products.put(productId, product);
+            return product;
+        }
+
+        Iterator<Map.Entry<String, Product>> eldest = products.entrySet().iterator();
+        Map.Entry<String, Product> victim = eldest.next();
+        if (sketch.frequency(productId) > sketch.frequency(victim.getKey())) {
+            eldest.remove();
+            evictionCount++;
+            detach(victim.getValue());
+            detached.remove(productId);
+            products.put(productId, product);
+        } else {
+            rejectionCount++;
+            detach(product);
+        }
+        return product;
+    }
+
+    synchronized Product find(String productId) {
+        Product product = products.get(productId);
+        return product != null ? product : detachedInstance(productId);
+    }
+
+    private void detach(Product product) {
+        detached.put(product.getProductId(), new DetachedProduct(product, collected));
+    }
+
+    private Product detachedInstance(String productId) {
+        DetachedProduct reference = detached.get(productId);
+        return reference == null ? null : reference.get();
+    }
+
+    private void purgeCollected() {
+        Reference<? extends Product> reference;
+        while ((reference = collected.poll()) != null) {
+            DetachedProduct cleared = (DetachedProduct) reference;
+            detached.remove(cleared.productId, cleared);
+        }
+    }
+
+    public synchronized int refreshPrices(Map<String, Double> newPrices) {
+        int updated = 0;
+        for (Map.Entry<String, Double> entry : newPrices.entrySet()) {
+            Product product = products.get(entry.getKey());
+            if (product == null) {
+                product = detachedInstance(entry.getKey());
+            }
+            if (product != null && product.getPrice() != entry.getValue()) {
+                product.updatePrice(entry.getValue());
+                updated++;
+            }
+        }
+        return updated;
+    }
+
+    public synchronized int size() {
+        return products.size();
+    }
+
+    public synchronized int getDetachedCount() {
+        purgeCollected();
+        return detached.size();
+    }
+
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    public synchronized long getEvictionCount() {
+        return evictionCount;
+    }
+
+    public synchronized long getRejectionCount() {
+        return rejectionCount;
+    }
+
+    public synchronized double getHitRate() {
+        long requests = hitCount + missCount;
+        return requests == 0 ? 0 : (double) hitCount / requests;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("Katalog[%d/%d ürün - hit: %d, miss: %d, eviction: %d, red: %d, hit oranı: %.2f]",
+                products.size(), maximumSize, hitCount, missCount, evictionCount, rejectionCount, getHitRate());
+    }
+
+    private static final class DetachedProduct extends WeakReference<Product> {
+        private final String productId;
+
+        private DetachedProduct(Product product, ReferenceQueue<Product> queue) {
+            super(product, queue);
+            this.productId = product.getProductId();
+        }
+    }
+}
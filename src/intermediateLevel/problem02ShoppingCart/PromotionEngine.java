@@ -0,0 +1,72 @@
+package intermediateLevel.problem02ShoppingCart;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class PromotionEngine {
+    private static final int[] NO_RULES = new int[0];
+
+    private final PromotionRule[] rules;
+    private final Map<String, int[]> rulesByProduct;
+    private final Map<String, int[]> rulesByCategory;
+    private final int[] globalRules;
+
+    public PromotionEngine(List<PromotionRule> rules) {
+        this.rules = rules.toArray(new PromotionRule[0]);
+
+        Map<String, List<Integer>> byProduct = new HashMap<>();
+        Map<String, List<Integer>> byCategory = new HashMap<>();
+        List<Integer> global = new ArrayList<>();
+
+        for (int ruleId = 0; ruleId < this.rules.length; ruleId++) {
+            PromotionRule rule = this.rules[ruleId];
+            for (String productId : rule.getTriggerProductIds()) {
+                byProduct.computeIfAbsent(productId, k -> new ArrayList<>()).add(ruleId);
+            }
+            for (String category : rule.getTriggerCategories()) {
+                byCategory.computeIfAbsent(category, k -> new ArrayList<>()).add(ruleId);
+            }
+            if (rule.isGlobal()) {
+                global.add(ruleId);
+            }
+        }
+
+        this.rulesByProduct = new HashMap<>();
+        byProduct.forEach((productId, ids) -> rulesByProduct.put(productId, toArray(ids)));
+
+        this.rulesByCategory = new HashMap<>();
+        byCategory.forEach((category, ids) -> rulesByCategory.put(category, toArray(ids)));
+
+        this.globalRules = toArray(global);
+    }
+
+    public int getRuleCount() {
+        return rules.length;
+    }
+
+    PromotionRule getRule(int ruleId) {
+        return rules[ruleId];
+    }
+
+    int[] rulesForProduct(String productId) {
+        return rulesByProduct.getOrDefault(productId, NO_RULES);
+    }
+
+    int[] rulesForCategory(String category) {
+        return rulesByCategory.getOrDefault(category, NO_RULES);
+    }
+
+    int[] globalRules() {
+        return globalRules;
+    }
+
+    private static int[] toArray(List<Integer> ids) {
+        int[] result = new int[ids.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = ids.get(i);
+        }
+        return result;
+    }
+}
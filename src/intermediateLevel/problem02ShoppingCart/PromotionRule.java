@@ -0,0 +1,38 @@
+package intermediateLevel.problem02ShoppingCart;
+
+import java.util.Collections;
+import java.util.Set;
+
+public abstract class PromotionRule {
+    private final String name;
+
+    protected PromotionRule(String name) {
+        if (name == null || name.trim().isEmpty()) {
+            throw new IllegalArgumentException("Kampanya adı boş olamaz!");
+        }
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Set<String> getTriggerProductIds() {
+        return Collections.emptySet();
+    }
+
+    public Set<String> getTriggerCategories() {
+        return Collections.emptySet();
+    }
+
+    public boolean isGlobal() {
+        return false;
+    }
+
+    public abstract long evaluate(ShoppingCart cart);
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,60 @@
+package intermediateLevel.problem02ShoppingCart;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+class PromotionState {
+    private final PromotionEngine engine;
+    private final long[] discounts;
+    private final BitSet dirty;
+    private long totalDiscount;
+
+    PromotionState(PromotionEngine engine) {
+        this.engine = engine;
+        this.discounts = new long[engine.getRuleCount()];
+        this.dirty = new BitSet(engine.getRuleCount());
+        dirty.set(0, engine.getRuleCount());
+    }
+
+    PromotionEngine getEngine() {
+        return engine;
+    }
+
+    void onItemChanged(Product product) {
+        mark(engine.rulesForProduct(product.getProductId()));
+        mark(engine.rulesForCategory(product.getCategory()));
+        mark(engine.globalRules());
+    }
+
+    long getTotalDiscount(ShoppingCart cart) {
+        refresh(cart);
+        return Math.min(totalDiscount, cart.getTotalPriceInKurus());
+    }
+
+    List<DiscountLine> getBreakdown(ShoppingCart cart) {
+        refresh(cart);
+        List<DiscountLine> lines = new ArrayList<>();
+        for (int ruleId = 0; ruleId < discounts.length; ruleId++) {
+            if (discounts[ruleId] > 0) {
+                lines.add(new DiscountLine(engine.getRule(ruleId).getName(), discounts[ruleId]));
+            }
+        }
+        return lines;
+    }
+
+    private void refresh(ShoppingCart cart) {
+        for (int ruleId = dirty.nextSetBit(0); ruleId >= 0; ruleId = dirty.nextSetBit(ruleId + 1)) {
+            long discount = engine.getRule(ruleId).evaluate(cart);
+            totalDiscount += discount - discounts[ruleId];
+            discounts[ruleId] = discount;
+        }
+        dirty.clear();
+    }
+
+    private void mark(int[] ruleIds) {
+        for (int ruleId : ruleIds) {
+            dirty.set(ruleId);
+        }
+    }
+}
@@ -1,15 +1,45 @@
 package intermediateLevel.problem02ShoppingCart;
 
-import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 public class ShoppingCart {
     private Map<String, CartItem> items;
+    private CategoryIndex categoryIndex;
+    private PriceIndex priceIndex;
+    private PromotionState promotions;
+    private CartChangeLog changeLog;
+    private int unitCount;
+    private long totalInKurus;
+    private ProductCatalog catalog;
+    private final Queue<Product> repricedProducts = new ConcurrentLinkedQueue<>();
 
     public ShoppingCart() {
         this.items = new HashMap<>();
+        this.categoryIndex = new CategoryIndex(new CategoryRegistry());
+        this.priceIndex = new PriceIndex();
+        this.changeLog = new CartChangeLog(CartChangeLog.DEFAULT_CAPACITY);
+    }
+
+    public ShoppingCart(ProductCatalog catalog) {
+        this();
+        this.catalog = catalog;
+        if (catalog != null) {
+            this.categoryIndex = new CategoryIndex(catalog.getCategories());
+        }
+    }
+
+    public void setPromotionEngine(PromotionEngine engine) {
+        this.promotions = engine == null ? null : new PromotionState(engine);
+    }
+
+    PromotionEngine getPromotionEngine() {
+        return promotions == null ? null : promotions.getEngine();
     }
 
     public void addProduct(Product product, int quantity) {
@@ -23,31 +53,66 @@ public class ShoppingCart {
             return;
         }
 
-        String productId = product.getProductId();
+        applyPendingPrices();
+        if (catalog != null) {
+            product = catalog.intern(product);
+        }
 
-        if (items.containsKey(productId)) {
-            CartItem existingItem = items.get(productId);
+        String productId = product.getProductId();
+        CartItem existingItem = items.get(productId);
+        if (existingItem != null) {
+            Product stored = existingItem.getProduct();
             existingItem.addQuantity(quantity);
+            adjustTotals(existingItem, unitPriceOf(existingItem) * quantity, quantity);
+            changeLog.record(CartChangeType.QUANTITY_CHANGED, stored, existingItem.getQuantity());
             System.out.println(product.getName() + " miktarı güncellendi: " + existingItem.getQuantity());
         } else {
+            product.addHolder(this);
             CartItem newItem = new CartItem(product, quantity);
             items.put(productId, newItem);
+            categoryIndex.add(newItem);
+            priceIndex.add(newItem);
+            changeLog.record(CartChangeType.ADDED, product, quantity);
+            adjustTotals(newItem, unitPriceOf(newItem) * quantity, quantity);
             System.out.println(product.getName() + " sepete eklendi.");
         }
     }
 
+    void restoreItem(Product product, int quantity) {
+        if (catalog != null) {
+            product = catalog.intern(product);
+        }
+        product.addHolder(this);
+        CartItem item = new CartItem(product, quantity);
+        items.put(product.getProductId(), item);
+        categoryIndex.add(item);
+        priceIndex.add(item);
+        adjustTotals(item, unitPriceOf(item) * quantity, quantity);
+    }
+
+    void restoreVersion(long version, long baseVersion) {
+        changeLog.restore(version, baseVersion);
+    }
+
     public void removeProduct(String productId) {
         if (productId == null) {
             System.out.println("Hata: ProductId null olamaz!");
             return;
         }
 
+        applyPendingPrices();
         if (!items.containsKey(productId)) {
             System.out.println("Hata: Bu ürün sepette yok!");
             return;
         }
 
         CartItem removed = items.remove(productId);
+        long removedTotal = unitPriceOf(removed) * removed.getQuantity();
+        categoryIndex.remove(removed);
+        priceIndex.remove(removed);
+        changeLog.record(CartChangeType.REMOVED, removed.getProduct(), 0);
+        removed.getProduct().removeHolder(this);
+        adjustTotals(removed, -removedTotal, -removed.getQuantity());
         System.out.println(removed.getProduct().getName() + " sepetten çıkarıldı!");
     }
 
@@ -62,64 +127,174 @@ public class ShoppingCart {
             return;
         }
 
+        applyPendingPrices();
         if (!items.containsKey(productId)) {
             System.out.println("Hata: Bu ürün sepette yok!");
+            return;
         }
 
         CartItem item = items.get(productId);
+        int deltaUnits = newQuantity - item.getQuantity();
         item.setQuantity(newQuantity);
+        changeLog.record(CartChangeType.QUANTITY_CHANGED, item.getProduct(), newQuantity);
+        adjustTotals(item, unitPriceOf(item) * deltaUnits, deltaUnits);
         System.out.println(item.getProduct().getName() + " miktarı güncellendi: " + newQuantity);
     }
 
+    public long getVersion() {
+        applyPendingPrices();
+        return changeLog.getVersion();
+    }
+
+    public CartDelta getChangesSince(long version) {
+        applyPendingPrices();
+        return changeLog.changesSince(version, items.values());
+    }
+
+    public Collection<CartItem> getItems() {
+        applyPendingPrices();
+        return Collections.unmodifiableCollection(items.values());
+    }
+
+    CartItem getItem(String productId) {
+        return items.get(productId);
+    }
+
+    List<CartItem> getItemsInCategory(String category) {
+        applyPendingPrices();
+        return categoryIndex.getItems(categoryIndex.find(category));
+    }
+
+    public int getUnitCount() {
+        return unitCount;
+    }
+
+    public int getItemCount() {
+        return items.size();
+    }
+
+    public boolean isEmpty() {
+        return items.isEmpty();
+    }
+
     public double getTotalPrice() {
-        double total = 0;
+        return getTotalPriceInKurus() / 100.0;
+    }
 
-        for (CartItem item : items.values()) {
-            total += item.getTotalPrice();
-        }
+    public long getTotalPriceInKurus() {
+        applyPendingPrices();
+        return totalInKurus;
+    }
 
-        return total;
+    public long getTotalDiscountInKurus() {
+        applyPendingPrices();
+        return promotions == null ? 0 : promotions.getTotalDiscount(this);
     }
 
-    public Product getMostExpensiveProduct() {
-        if (items.isEmpty()) {
-            return null;
-        }
+    public double getTotalDiscount() {
+        return getTotalDiscountInKurus() / 100.0;
+    }
 
-        Product mostExpensive = null;
-        double maxPrice = 0;
+    public List<DiscountLine> getDiscountBreakdown() {
+        applyPendingPrices();
+        return promotions == null ? Collections.emptyList() : promotions.getBreakdown(this);
+    }
+
+    public double getPayableTotal() {
+        long discount = getTotalDiscountInKurus();
+        return (totalInKurus - discount) / 100.0;
+    }
 
-        for (CartItem item : items.values()) {
-            Product product = item.getProduct();
-            if (product.getPrice() > maxPrice) {
-                maxPrice = product.getPrice();
-                mostExpensive = product;
+    public double getCategoryTotal(String category) {
+        return getCategoryTotalInKurus(category) / 100.0;
+    }
+
+    public long getCategoryTotalInKurus(String category) {
+        applyPendingPrices();
+        return categoryIndex.getTotalInKurus(categoryIndex.find(category));
+    }
+
+    public List<Product> getProductsInCategory(String category) {
+        applyPendingPrices();
+        return categoryIndex.getProducts(categoryIndex.find(category));
+    }
+
+    public int getItemCountInCategory(String category) {
+        return categoryIndex.getItemCount(categoryIndex.find(category));
+    }
+
+    void onPriceChanged(Product product) {
+        repricedProducts.add(product);
+    }
+
+    private void applyPendingPrices() {
+        Product product;
+        while ((product = repricedProducts.poll()) != null) {
+            CartItem item = items.get(product.getProductId());
+            if (item == null || item.getProduct() != product) {
+                continue;
+            }
+            long deltaPerUnit = priceIndex.reprice(item);
+            if (deltaPerUnit != 0) {
+                adjustTotals(item, deltaPerUnit * item.getQuantity(), 0);
             }
         }
+    }
 
-        return mostExpensive;
+    private static long unitPriceOf(CartItem item) {
+        return item.getPriceEntry().getPriceInKurus();
     }
 
-    public Map<String, List<Product>> getProductsByCategory() {
-        Map<String, List<Product>> categoryMap = new HashMap<>();
+    private void adjustTotals(CartItem item, long deltaInKurus, int deltaUnits) {
+        totalInKurus += deltaInKurus;
+        unitCount += deltaUnits;
+        categoryIndex.adjustTotal(item.getCategoryId(), deltaInKurus);
+        if (promotions != null) {
+            promotions.onItemChanged(item.getProduct());
+        }
+    }
+
+    public Product getMostExpensiveProduct() {
+        applyPendingPrices();
+        return priceIndex.max();
+    }
 
-        for (CartItem item : items.values()) {
-            Product product = item.getProduct();
-            String category = product.getCategory();
+    public Product getCheapestProduct() {
+        applyPendingPrices();
+        return priceIndex.min();
+    }
 
-            if (!categoryMap.containsKey(category)) {
-                categoryMap.put(category, new ArrayList<>());
-            }
+    public List<Product> getMostExpensiveProducts(int k) {
+        if (k <= 0) {
+            return Collections.emptyList();
+        }
+        applyPendingPrices();
+        return priceIndex.top(k);
+    }
 
-            categoryMap.get(category).add(product);
+    public List<Product> getCheapestProducts(int k) {
+        if (k <= 0) {
+            return Collections.emptyList();
         }
+        applyPendingPrices();
+        return priceIndex.bottom(k);
+    }
 
-        return categoryMap;
+    public Map<String, List<Product>> getProductsByCategory() {
+        applyPendingPrices();
+        return categoryIndex.asMap();
     }
 
     public void displayCart() {
+        applyPendingPrices();
         System.out.println("\nSEPET:");
         items.values().forEach(System.out::println);
-        System.out.println("TOPLAM: " + getTotalPrice() + " TL\n");
+        System.out.println("TOPLAM: " + getTotalPrice() + " TL");
+        List<DiscountLine> discounts = getDiscountBreakdown();
+        if (!discounts.isEmpty()) {
+            discounts.forEach(System.out::println);
+            System.out.println("ÖDENECEK: " + getPayableTotal() + " TL");
+        }
+        System.out.println();
     }
 }
@@ -0,0 +1,62 @@
+package intermediateLevel.problem02ShoppingCart;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+class StripedStock {
+    private static final int PADDING = 16;
+
+    private final AtomicIntegerArray counters;
+    private final int stripes;
+
+    StripedStock(int stripes) {
+        this.stripes = stripes;
+        this.counters = new AtomicIntegerArray(stripes * PADDING);
+    }
+
+    void add(int quantity) {
+        int base = quantity / stripes;
+        int remainder = quantity % stripes;
+        for (int stripe = 0; stripe < stripes; stripe++) {
+            counters.addAndGet(stripe * PADDING, base + (stripe < remainder ? 1 : 0));
+        }
+    }
+
+    int take(int quantity) {
+        int home = homeStripe();
+        int remaining = quantity;
+        for (int i = 0; i < stripes && remaining > 0; i++) {
+            int index = ((home + i) % stripes) * PADDING;
+            while (true) {
+                int available = counters.get(index);
+                if (available <= 0) {
+                    break;
+                }
+                int taken = Math.min(available, remaining);
+                if (counters.compareAndSet(index, available, available - taken)) {
+                    remaining -= taken;
+                    break;
+                }
+            }
+        }
+        return quantity - remaining;
+    }
+
+    void release(int quantity) {
+        counters.addAndGet(homeStripe() * PADDING, quantity);
+    }
+
+    int available() {
+        int sum = 0;
+        for (int stripe = 0; stripe < stripes; stripe++) {
+            sum += counters.get(stripe * PADDING);
+        }
+        return sum;
+    }
+
+    private int homeStripe() {
+        int hash = (int) Thread.currentThread().getId();
+        hash ^= hash >>> 16;
+        hash *= 0x45D9F3B;
+        return (hash >>> 1) % stripes;
+    }
+}